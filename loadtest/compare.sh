@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# 같은 jar 를 기본(플랫폼 스레드) / virtual 프로필로 번갈아 띄우고 같은 k6 시나리오를 돌려 처리량과 p99 를 비교
+# 필요: k6, jq, 로컬 MySQL(application.yml 설정), AI 서버
+# 사용: loadtest/compare.sh [VUS] [DURATION]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+VUS=${1:-400}
+DURATION=${2:-2m}
+PORT=${PORT:-8080}
+OUT=build/loadtest
+mkdir -p "$OUT"
+
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run() {
+    local mode=$1 profiles=$2
+    echo "== $mode (profiles: ${profiles:-default}) =="
+    java -jar "$JAR" --server.port="$PORT" ${profiles:+--spring.profiles.active=$profiles} > "$OUT/$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/login"; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$OUT/$mode.json" loadtest/dashboard.k6.js
+
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run platform ""
+run virtual virtual
+
+printf '\n%-10s %10s %10s %10s %8s\n' mode rps p95_ms p99_ms fail%
+for mode in platform virtual; do
+    jq -r --arg m "$mode" '[$m,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(95)"] | floor),
+        (.metrics.http_req_duration["p(99)"] | floor),
+        (.metrics.http_req_failed.value * 100 * 100 | floor / 100)] | @tsv' "$OUT/$mode.json" \
+        | awk -F'\t' '{ printf "%-10s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5 }'
+done
+
+# 가상 스레드 실행 중 pinning 경고 건수 (VirtualThreadPinningMonitor 로그)
+echo
+echo "pinning warnings (virtual): $(grep -c '가상 스레드 pinning' "$OUT/virtual.log" || true)"
@@ -0,0 +1,64 @@
+// 플랫폼 스레드 vs 가상 스레드 비교용 부하 시나리오 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 loadtest/dashboard.k6.js
+// 요청 비율: 일기 조회 60% / 대시보드 30% / 감정 분석(AI 호출 block) 10%
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = Number(__ENV.USERS || 50);
+const PASSWORD = 'loadtest-pw';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 400),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function email(i) {
+    return `loadtest${i}@filter.today`;
+}
+
+// 테스트 계정 준비 (이미 있으면 가입 실패 응답이 오지만 무시)
+export function setup() {
+    for (let i = 0; i < USERS; i++) {
+        http.post(`${BASE_URL}/signup-process`, { email: email(i), password: PASSWORD, nickname: `부하${i}` });
+    }
+}
+
+// VU 마다 한 번만 로그인 (세션 쿠키는 VU 의 cookie jar 에 유지됨)
+let loggedIn = false;
+
+function login() {
+    const res = http.post(`${BASE_URL}/login-process`,
+        { email: email((__VU - 1) % USERS), password: PASSWORD },
+        { redirects: 0 });
+    loggedIn = check(res, { 'login redirect': (r) => r.status === 302 && !r.headers['Location'].includes('error') });
+}
+
+function randomDate() {
+    const day = 1 + Math.floor(Math.random() * 28);
+    return `2025-12-${String(day).padStart(2, '0')}`;
+}
+
+export default function () {
+    if (!loggedIn) login();
+
+    const pick = Math.random();
+    if (pick < 0.6) {
+        const res = http.get(`${BASE_URL}/api/diary?recordDate=${randomDate()}`, { tags: { name: 'diary' } });
+        check(res, { 'diary 200/204': (r) => r.status === 200 || r.status === 204 });
+    } else if (pick < 0.9) {
+        const res = http.get(`${BASE_URL}/api/dashboard?year=2025&month=12`, { tags: { name: 'dashboard' } });
+        check(res, { 'dashboard 200': (r) => r.status === 200 });
+    } else {
+        const res = http.post(`${BASE_URL}/api/diary/analyze`,
+            JSON.stringify({ content: '오늘은 친구랑 산책하고 맛있는 걸 먹어서 기분이 좋았다' }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'analyze' } });
+        check(res, { 'analyze 200': (r) => r.status === 200 });
+    }
+}
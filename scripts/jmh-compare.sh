@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# 두 JMH JSON 결과(./gradlew jmh -PjmhTag=...)를 벤치마크+파라미터별로 비교
+# 사용: scripts/jmh-compare.sh build/results/jmh/abc123.json build/results/jmh/def456.json [허용 오차 %, 기본 10]
+# AverageTime(작을수록 좋음) 기준, 허용 오차보다 느려진 항목이 있으면 종료 코드 1
+set -euo pipefail
+
+BASE=$1
+HEAD=$2
+THRESHOLD=${3:-10}
+
+key='(.benchmark | split(".") | .[-2:] | join(".")) + ((.params // {}) | to_entries | map("[" + .key + "=" + .value + "]") | join(""))'
+
+jq -r --slurpfile base "$BASE" --argjson threshold "$THRESHOLD" "
+    (\$base[0] | map({ key: ($key), value: .primaryMetric }) | from_entries) as \$before
+    | .[]
+    | ($key) as \$name
+    | select(\$before[\$name] != null)
+    | \$before[\$name].score as \$old
+    | .primaryMetric.score as \$new
+    | ((\$new - \$old) / \$old * 100) as \$delta
+    | [\$name, (\$old * 1000 | round / 1000), (\$new * 1000 | round / 1000), .primaryMetric.scoreUnit,
+       ((\$delta * 10 | round / 10 | tostring) + \"%\"),
+       (if \$delta > \$threshold then \"REGRESSION\" elif \$delta < -\$threshold then \"faster\" else \"\" end)]
+    | @tsv" "$HEAD" \
+  | sort \
+  | awk -F'\t' 'BEGIN { printf "%-60s %12s %12s %-8s %9s\n", "benchmark", "base", "head", "unit", "delta"; bad = 0 }
+               { printf "%-60s %12s %12s %-8s %9s %s\n", $1, $2, $3, $4, $5, $6; if ($6 == "REGRESSION") bad = 1 }
+               END { exit bad }'
@@ -0,0 +1,91 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.dto.AnalysisStatsResponseDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapEntryDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapResponseDto;
+import com.example.filtertoday.analysis.dto.DashboardResponseDto;
+import com.example.filtertoday.diary.dto.KeywordResponseDto;
+import com.example.filtertoday.diary.entity.Diary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 한 달치 응답 JSON 직렬화 (AnalysisResponseCache 처럼 byte[] 로)
+// 기존 톤 맵(본문 포함 Map) vs 간단 모드 vs 통계 vs 대시보드 한 번에
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Map<String, AnalysisToneMapResponseDto> legacyToneMap;
+    private List<AnalysisToneMapEntryDto> compactToneMap;
+    private List<AnalysisStatsResponseDto> stats;
+    private DashboardResponseDto dashboard;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같게 (날짜는 "2020-01-01" 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<Diary> month = SyntheticDiaries.diaries(31);
+        legacyToneMap = AnalysisService.toToneMap(month);
+        DashboardService.MonthSummary summary = DashboardService.summarize(SyntheticDiaries.toneMap(month));
+        compactToneMap = summary.toneMap();
+        stats = summary.stats();
+
+        List<KeywordResponseDto> keywords = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keywords.add(new KeywordResponseDto("키워드" + i, 40 - i));
+        }
+        dashboard = DashboardResponseDto.builder()
+                .nickname("벤치마크")
+                .year(2020)
+                .month(1)
+                .toneMap(compactToneMap)
+                .stats(stats)
+                .keywords(keywords)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] toneMapLegacy() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(legacyToneMap);
+    }
+
+    @Benchmark
+    public byte[] toneMapCompact() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(compactToneMap);
+    }
+
+    @Benchmark
+    public byte[] stats() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stats);
+    }
+
+    @Benchmark
+    public byte[] dashboard() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+}
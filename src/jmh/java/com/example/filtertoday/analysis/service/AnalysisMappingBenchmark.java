@@ -0,0 +1,91 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.dto.AnalysisStatsResponseDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapEntryDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapResponseDto;
+import com.example.filtertoday.analysis.repository.EmotionCountView;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.repository.ToneMapView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 조회 결과 -> 응답 DTO 변환 (DB 제외): 한 달(31) / 1년(365) / 10년(3650)
+// - 통계: 기존 getStats(일기 전체 groupingBy) vs 대시보드 한 번 훑기 vs 통계 테이블 결과 변환
+// - 톤 맵: 기존 getToneMap(본문 포함 HashMap) vs 간단 모드(날짜/색/감정 리스트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisMappingBenchmark {
+
+    @Param({"31", "365", "3650"})
+    public int days;
+
+    private List<Diary> diaries;
+    private List<ToneMapView> toneMap;
+    private List<EmotionCountView> emotionCounts;
+
+    @Setup
+    public void setUp() {
+        diaries = SyntheticDiaries.diaries(days);
+        toneMap = SyntheticDiaries.toneMap(diaries);
+        emotionCounts = SyntheticDiaries.emotionCounts(diaries);
+    }
+
+    @Benchmark
+    public List<AnalysisStatsResponseDto> statsLegacyGroupingBy() {
+        // 기존 AnalysisService.getStats 의 집계 부분 (benchmark 용 복사)
+        Map<EmotionType, Long> emotionCount = diaries.stream()
+                .collect(Collectors.groupingBy(Diary::getEmotionType, Collectors.counting()));
+
+        List<AnalysisStatsResponseDto> statsResponses = new ArrayList<>();
+        for (Map.Entry<EmotionType, Long> entry : emotionCount.entrySet()) {
+            EmotionType type = entry.getKey();
+            statsResponses.add(AnalysisStatsResponseDto.builder()
+                    .emotionType(type)
+                    .emotionType_label(type.getKoreanName())
+                    .count(entry.getValue().intValue())
+                    .hexCode(type.getRepresentativeHexCode())
+                    .build());
+        }
+        return statsResponses;
+    }
+
+    @Benchmark
+    public DashboardService.MonthSummary statsAndToneMapSinglePass() {
+        return DashboardService.summarize(toneMap);
+    }
+
+    @Benchmark
+    public List<AnalysisStatsResponseDto> statsFromStatTable() {
+        return AnalysisService.toStatsResponses(emotionCounts);
+    }
+
+    @Benchmark
+    public Map<String, AnalysisToneMapResponseDto> toneMapLegacy() {
+        return AnalysisService.toToneMap(diaries);
+    }
+
+    @Benchmark
+    public List<AnalysisToneMapEntryDto> toneMapCompact() {
+        return AnalysisService.toCompactToneMap(toneMap);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.repository.EmotionCountView;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.repository.ToneMapView;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 벤치마크용 가짜 일기 (하루 한 편, 고정 시드라 실행마다 같은 데이터)
+// 감정 분포는 실제 사용처럼 치우치게: 보통/피곤/즐거움이 대부분
+final class SyntheticDiaries {
+
+    private static final EmotionType[] WEIGHTED = {
+            EmotionType.NORMAL, EmotionType.NORMAL, EmotionType.NORMAL, EmotionType.NORMAL,
+            EmotionType.TIRED, EmotionType.TIRED, EmotionType.JOY, EmotionType.JOY,
+            EmotionType.CALM, EmotionType.STRESS, EmotionType.SADNESS, EmotionType.EXCITEMENT,
+            EmotionType.PROUD, EmotionType.ANGER
+    };
+
+    private static final String[] SENTENCES = {
+            "오늘은 회사에서 회의가 길어져서 너무 피곤했다.",
+            "친구들이랑 맛있는 저녁을 먹으면서 오랜만에 즐겁게 웃었다.",
+            "비가 와서 카페에 앉아 조용히 책을 읽었다.",
+            "마감이 다가와서 스트레스를 받았지만 프로젝트를 끝내서 뿌듯했다.",
+            "공원을 산책하면서 강아지들을 구경했다."
+    };
+
+    private SyntheticDiaries() {
+    }
+
+    // 2020-01-01 부터 days 일 (본문 약 300자)
+    static List<Diary> diaries(int days) {
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<Diary> diaries = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            EmotionType emotionType = WEIGHTED[random.nextInt(WEIGHTED.length)];
+            StringBuilder content = new StringBuilder();
+            for (int s = 0; s < 10; s++) {
+                content.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+            }
+            diaries.add(Diary.builder()
+                    .id((long) i + 1)
+                    .recordDate(start.plusDays(i))
+                    .hexCode(emotionType.getRepresentativeHexCode())
+                    .emotionType(emotionType)
+                    .content(content.toString())
+                    .build());
+        }
+        return diaries;
+    }
+
+    // findToneMap 결과처럼 날짜/색/감정만
+    static List<ToneMapView> toneMap(List<Diary> diaries) {
+        return diaries.stream()
+                .<ToneMapView>map(diary -> new Day(diary.getRecordDate(), diary.getHexCode(), diary.getEmotionType()))
+                .toList();
+    }
+
+    // emotion_monthly_stat 합산 결과처럼 감정별 개수
+    static List<EmotionCountView> emotionCounts(List<Diary> diaries) {
+        Map<EmotionType, Long> counts = new EnumMap<>(EmotionType.class);
+        diaries.forEach(diary -> counts.merge(diary.getEmotionType(), 1L, Long::sum));
+        return counts.entrySet().stream()
+                .<EmotionCountView>map(entry -> new Count(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private record Day(LocalDate recordDate, String hexCode, EmotionType emotionType) implements ToneMapView {
+        @Override
+        public LocalDate getRecordDate() {
+            return recordDate;
+        }
+
+        @Override
+        public String getHexCode() {
+            return hexCode;
+        }
+
+        @Override
+        public EmotionType getEmotionType() {
+            return emotionType;
+        }
+    }
+
+    private record Count(EmotionType emotionType, Long count) implements EmotionCountView {
+        @Override
+        public EmotionType getEmotionType() {
+            return emotionType;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
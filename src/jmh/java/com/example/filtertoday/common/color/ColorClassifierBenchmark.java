@@ -0,0 +1,120 @@
+package com.example.filtertoday.common.color;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.config.ColorProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 색 -> 감정 1,024건 분류: 기존 DiaryService.findClosestEmotion vs 미리 계산한 팔레트(RGB/Lab) vs 24비트 조회표
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx512m")
+public class ColorClassifierBenchmark {
+
+    private String[] hexCodes;
+    private EmotionColorClassifier rgb;
+    private EmotionColorClassifier lab;
+    private EmotionColorClassifier rgbTable;
+    private EmotionColorClassifier labTable;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        hexCodes = new String[1024];
+        for (int i = 0; i < hexCodes.length; i++) {
+            hexCodes[i] = String.format("#%06X", random.nextInt(1 << 24));
+        }
+
+        rgb = classifier(ColorProperties.Distance.RGB, false);
+        lab = classifier(ColorProperties.Distance.LAB, false);
+        rgbTable = classifier(ColorProperties.Distance.RGB, true);
+        labTable = classifier(ColorProperties.Distance.LAB, true);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String hexCode : hexCodes) blackhole.consume(legacyFindClosestEmotion(hexCode));
+    }
+
+    @Benchmark
+    public void packedRgb(Blackhole blackhole) {
+        for (String hexCode : hexCodes) blackhole.consume(rgb.classify(hexCode));
+    }
+
+    @Benchmark
+    public void cieLab(Blackhole blackhole) {
+        for (String hexCode : hexCodes) blackhole.consume(lab.classify(hexCode));
+    }
+
+    @Benchmark
+    public void lookupTableRgb(Blackhole blackhole) {
+        for (String hexCode : hexCodes) blackhole.consume(rgbTable.classify(hexCode));
+    }
+
+    @Benchmark
+    public void lookupTableLab(Blackhole blackhole) {
+        for (String hexCode : hexCodes) blackhole.consume(labTable.classify(hexCode));
+    }
+
+    private static EmotionColorClassifier classifier(ColorProperties.Distance distance, boolean lookupTable) {
+        ColorProperties properties = new ColorProperties();
+        properties.setDistance(distance);
+        properties.setLookupTable(lookupTable);
+        return new EmotionColorClassifier(properties);
+    }
+
+    // 비교 기준: 변경 전 DiaryService.findClosestEmotion 그대로
+    private static EmotionType legacyFindClosestEmotion(String inputHex) {
+        if (inputHex == null || inputHex.isEmpty()) return EmotionType.NORMAL;
+
+        if (inputHex.equalsIgnoreCase(EmotionType.NORMAL.getRepresentativeHexCode())
+                || inputHex.equalsIgnoreCase("#E0E0E0")
+                || inputHex.equalsIgnoreCase("#CCCCCC")) {
+            return EmotionType.NORMAL;
+        }
+
+        EmotionType closestType = EmotionType.NORMAL;
+        double minDistance = Double.MAX_VALUE;
+
+        int r1, g1, b1;
+        try {
+            r1 = Integer.valueOf(inputHex.substring(1, 3), 16);
+            g1 = Integer.valueOf(inputHex.substring(3, 5), 16);
+            b1 = Integer.valueOf(inputHex.substring(5, 7), 16);
+        } catch (Exception e) {
+            return EmotionType.NORMAL;
+        }
+
+        for (EmotionType type : EmotionType.values()) {
+            if (type == EmotionType.NORMAL) continue;
+
+            String targetHex = type.getRepresentativeHexCode();
+            int r2 = Integer.valueOf(targetHex.substring(1, 3), 16);
+            int g2 = Integer.valueOf(targetHex.substring(3, 5), 16);
+            int b2 = Integer.valueOf(targetHex.substring(5, 7), 16);
+
+            double distance = Math.sqrt(Math.pow(r1 - r2, 2) + Math.pow(g1 - g2, 2) + Math.pow(b1 - b2, 2));
+
+            if (distance < minDistance) {
+                minDistance = distance;
+                closestType = type;
+            }
+        }
+        return closestType;
+    }
+}
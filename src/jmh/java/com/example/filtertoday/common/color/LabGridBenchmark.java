@@ -0,0 +1,92 @@
+package com.example.filtertoday.common.color;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 색이 비슷한 날 10개: 1년 / 10년 / 100년치 일기에서 Lab 격자(LabGrid) vs 전체 거리 계산 후 정렬
+// 일기 색은 대부분 감정 대표색 근처에 몰려 있으므로 대표색 주변으로 흩뿌린 색을 사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LabGridBenchmark {
+
+    private static final int[] PALETTE = {0xFFD700, 0xFFA500, 0x32CD32, 0xADD8E6, 0x9370DB, 0xFF4500, 0x4682B4, 0xA9A9A9, 0xE0E0E0};
+    private static final int K = 10;
+
+    @Param({"365", "3650", "36500"})
+    public int days;
+
+    private LabGrid<LocalDate> grid;
+    private float[] labs;
+    private int[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        grid = new LabGrid<>(Comparator.<LocalDate>reverseOrder());
+        labs = new float[days * 3];
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < days; i++) {
+            int rgb = jitter(PALETTE[random.nextInt(PALETTE.length)], random);
+            grid.put(start.plusDays(i), String.format("#%06X", rgb));
+            CieLab.fromRgb(rgb, labs, i * 3);
+        }
+
+        queries = new int[256];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = jitter(PALETTE[random.nextInt(PALETTE.length)], random);
+        }
+    }
+
+    @Benchmark
+    public List<LabGrid.Neighbor<LocalDate>> grid() {
+        return grid.nearest(nextQuery(), K, null);
+    }
+
+    @Benchmark
+    public double[] linearScan() {
+        float[] lab = new float[3];
+        CieLab.fromRgb(nextQuery(), lab, 0);
+        double[] distances = new double[days];
+        for (int i = 0; i < days; i++) {
+            float dl = lab[0] - labs[i * 3];
+            float da = lab[1] - labs[i * 3 + 1];
+            float db = lab[2] - labs[i * 3 + 2];
+            distances[i] = Math.sqrt(dl * dl + da * da + db * db);
+        }
+        Arrays.sort(distances);
+        return Arrays.copyOf(distances, K);
+    }
+
+    private int nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+
+    // 채널마다 ±24 흔들기
+    private static int jitter(int rgb, Random random) {
+        int r = Math.max(0, Math.min(255, ((rgb >> 16) & 0xFF) + random.nextInt(49) - 24));
+        int g = Math.max(0, Math.min(255, ((rgb >> 8) & 0xFF) + random.nextInt(49) - 24));
+        int b = Math.max(0, Math.min(255, (rgb & 0xFF) + random.nextInt(49) - 24));
+        return (r << 16) | (g << 8) | b;
+    }
+}
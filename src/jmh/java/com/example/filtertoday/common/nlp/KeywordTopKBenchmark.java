@@ -0,0 +1,124 @@
+package com.example.filtertoday.common.nlp;
+
+import com.example.filtertoday.config.KomoranProperties;
+import kr.co.shineware.nlp.komoran.model.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 1년치(365일) 긴 일기의 키워드 집계: 기존 방식(HashMap<String, Integer> + 전체 정렬) vs TermCounter + 최소 힙
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordTopKBenchmark {
+
+    private static final String[] SENTENCES = {
+            "오늘은 회사에서 회의가 길어져서 너무 피곤했다.",
+            "친구들이랑 맛있는 저녁을 먹으면서 오랜만에 즐겁게 웃었다.",
+            "마감이 다가와서 스트레스를 받았지만 프로젝트를 끝내서 뿌듯했다.",
+            "비가 와서 카페에 앉아 조용히 책을 읽었다.",
+            "동생이랑 사소한 일로 싸워서 화가 났다.",
+            "내일 여행을 떠난다고 생각하니 설레서 잠이 안 온다.",
+            "할머니 댁에 다녀왔는데 건강이 안 좋아지셔서 슬펐다.",
+            "운동을 하고 샤워를 하니 몸이 가벼워졌다.",
+            "새로 산 노트북으로 과제를 하다가 밤을 새웠다.",
+            "공원을 산책하면서 강아지들을 구경했다."
+    };
+
+    private static final int TOP_K = 20;
+
+    private MorphemeAnalyzer analyzer;
+    private List<String> diaries;
+    private List<List<Token>> tokenLists;
+
+    @Setup
+    public void setUp() {
+        analyzer = new MorphemeAnalyzer(new KomoranProperties());
+
+        // 하루 40문장(약 1,200자) x 365일
+        Random random = new Random(42);
+        diaries = new ArrayList<>();
+        for (int day = 0; day < 365; day++) {
+            StringBuilder diary = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                diary.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+            }
+            diaries.add(diary.toString());
+        }
+        tokenLists = analyzer.analyzeAll(diaries);
+    }
+
+    @TearDown
+    public void tearDown() {
+        analyzer.shutdown();
+    }
+
+    @Benchmark
+    public List<Map.Entry<String, Integer>> boxedMapFullSort() {
+        Map<String, Integer> frequencyMap = new HashMap<>();
+        for (List<Token> tokens : tokenLists) {
+            for (Token token : tokens) {
+                String keyword = toKeyword(token);
+                if (keyword != null) frequencyMap.put(keyword, frequencyMap.getOrDefault(keyword, 0) + 1);
+            }
+        }
+        return frequencyMap.entrySet().stream()
+                .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue()))
+                .limit(TOP_K)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TopKSelector.TermCount> primitiveCounterBoundedHeap() {
+        TermCounter counter = new TermCounter(1024);
+        for (List<Token> tokens : tokenLists) {
+            for (Token token : tokens) {
+                String keyword = toKeyword(token);
+                if (keyword != null) counter.increment(keyword);
+            }
+        }
+        return TopKSelector.top(counter, TOP_K);
+    }
+
+    // 형태소 분석까지 포함한 전체 경로 (분석 풀 병렬 처리)
+    @Benchmark
+    public List<TopKSelector.TermCount> tokenizeCountAndSelect() {
+        TermCounter counter = new TermCounter(1024);
+        for (List<Token> tokens : analyzer.analyzeAll(diaries)) {
+            for (Token token : tokens) {
+                String keyword = toKeyword(token);
+                if (keyword != null) counter.increment(keyword);
+            }
+        }
+        return TopKSelector.top(counter, TOP_K);
+    }
+
+    // KeywordExtractor 와 같은 규칙 (benchmark 는 diary.service 패키지 밖이라 복사)
+    private static String toKeyword(Token token) {
+        String pos = token.getPos();
+        String word = token.getMorph();
+        if ((pos.startsWith("NN") || pos.startsWith("VV") || pos.startsWith("VA")) && word.length() > 1) {
+            return pos.startsWith("VV") || pos.startsWith("VA") ? word + "다" : word;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.diary.dto.AiResponseDto;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 한 건씩 /analyze 호출 vs 배치(/analyze_batch) 호출의 초당 처리량 비교
+// 스텁 서버는 호출마다 고정 추론 지연을 가지므로, 동시 요청을 묶을수록 처리량이 올라감
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(32)
+public class AiClientThroughputBenchmark {
+
+    @Param({"20"})
+    public int inferenceLatencyMillis;
+
+    @Param({"16"})
+    public int batchMaxSize;
+
+    private StubAiServer server;
+    private AiEmotionClient singleClient;
+    private AiEmotionClient batchingClient;
+    private AiEmotionBatcher batcher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = StubAiServer.start(Duration.ofMillis(inferenceLatencyMillis));
+        WebClient webClient = WebClient.create(server.baseUrl());
+
+        // analyze() 만 호출하므로 결과 캐시는 사용하지 않음
+        AiEmotionBatcher disabled = new AiEmotionBatcher(webClient, new AiProperties());
+        singleClient = newClient(webClient, new AiProperties(), disabled);
+
+        AiProperties batchProperties = new AiProperties();
+        batchProperties.getBatch().setEnabled(true);
+        batchProperties.getBatch().setMaxSize(batchMaxSize);
+        batchProperties.getBatch().setMaxWait(Duration.ofMillis(5));
+        batcher = new AiEmotionBatcher(webClient, batchProperties);
+        batcher.start();
+        batchingClient = newClient(webClient, batchProperties, batcher);
+    }
+
+    private AiEmotionClient newClient(WebClient webClient, AiProperties properties, AiEmotionBatcher batcher) {
+        return new AiEmotionClient(webClient, properties, batcher, null, null,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batcher.stop();
+        server.close();
+    }
+
+    @Benchmark
+    public AiResponseDto oneAtATime() {
+        return singleClient.analyze("JOY 오늘은 친구랑 맛있는 걸 먹어서 즐거웠다");
+    }
+
+    @Benchmark
+    public AiResponseDto microBatched() {
+        return batchingClient.analyze("JOY 오늘은 친구랑 맛있는 걸 먹어서 즐거웠다");
+    }
+}
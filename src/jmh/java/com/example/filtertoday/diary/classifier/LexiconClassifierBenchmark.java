@@ -0,0 +1,46 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.common.nlp.MorphemeAnalyzer;
+import com.example.filtertoday.config.KomoranProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 내장 사전 분류기 1건 분류 시간 (일기 길이별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LexiconClassifierBenchmark {
+
+    private static final String SENTENCE = "오늘은 마감 때문에 스트레스를 받았지만 친구들이랑 맛있는 저녁을 먹어서 즐거웠다. ";
+
+    @Param({"1", "10", "50"})
+    public int sentences;
+
+    private LexiconEmotionClassifier classifier;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        classifier = new LexiconEmotionClassifier(new MorphemeAnalyzer(new KomoranProperties()));
+        content = SENTENCE.repeat(sentences);
+    }
+
+    @Benchmark
+    public EmotionResult classify() {
+        return classifier.classify(content);
+    }
+}
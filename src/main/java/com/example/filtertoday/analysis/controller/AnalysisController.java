@@ -1,54 +1,117 @@
 package com.example.filtertoday.analysis.controller;
 
-import com.example.filtertoday.analysis.dto.AnalysisStatsResponseDto;
-import com.example.filtertoday.analysis.dto.AnalysisToneMapResponseDto;
+import com.example.filtertoday.analysis.service.AnalysisResponseCache;
 import com.example.filtertoday.analysis.service.AnalysisService;
+import com.example.filtertoday.analysis.service.MonthVersionService;
+import com.example.filtertoday.diary.dto.KeywordRange;
 //import com.example.filtertoday.analysis.service.ColorClassificationService;
-import com.example.filtertoday.member.entity.Member;
-import com.example.filtertoday.member.service.MemberService;
+import com.example.filtertoday.member.security.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
+// 응답은 (회원, 달) 버전 기반 ETag 로 캐시 -> 바뀌지 않은 달은 304 또는 캐시된 JSON
 @RestController // 1. JSON 응답을 위해 RestController 사용
 @RequestMapping("/api/analysis")
 @RequiredArgsConstructor
 public class AnalysisController {
 
     private final AnalysisService analysisService;
-    private final MemberService memberService;
+    private final MonthVersionService monthVersionService;
+    private final AnalysisResponseCache responseCache;
 
+    // Map<날짜, AnalysisToneMapResponseDto>
     @GetMapping("/tonemap")
-    public ResponseEntity<Map<String, AnalysisToneMapResponseDto>> getToneMap(
+    public ResponseEntity<byte[]> getToneMap(
             @RequestParam int year,
             @RequestParam int month,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Member member = getMember(userDetails); // 아래 공통 메서드 참고
-        Map<String, AnalysisToneMapResponseDto> response = analysisService.getToneMap(member.getId(), year, month);
-        return ResponseEntity.ok(response);
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request) {
+        Long memberId = principal.getMemberId();
+        return responseCache.respond(request, memberId, "tonemap-" + year + "-" + month,
+                () -> monthVersionService.month(memberId, YearMonth.of(year, month)),
+                () -> analysisService.getToneMap(memberId, year, month));
     }
 
+    // 간단 모드: [{date, hexCode, emotionType}, ...] (본문 제외, 날짜순)
+    @GetMapping("/tonemap/compact")
+    public ResponseEntity<byte[]> getCompactToneMap(
+            @RequestParam int year,
+            @RequestParam int month,
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request) {
+        Long memberId = principal.getMemberId();
+        return responseCache.respond(request, memberId, "tonemap-compact-" + year + "-" + month,
+                () -> monthVersionService.month(memberId, YearMonth.of(year, month)),
+                () -> analysisService.getCompactToneMap(memberId, year, month));
+    }
+
+    // List<AnalysisStatsResponseDto>
     @GetMapping("/stats")
-    public ResponseEntity<List<AnalysisStatsResponseDto>> getStats(
+    public ResponseEntity<byte[]> getStats(
             @RequestParam int year,
             @RequestParam int month,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request
     ) {
-        Member member = getMember(userDetails);
-        List<AnalysisStatsResponseDto> response = analysisService.getStats(member.getId(), year, month);
-        return ResponseEntity.ok(response);
+        Long memberId = principal.getMemberId();
+        return responseCache.respond(request, memberId, "stats-" + year + "-" + month,
+                () -> monthVersionService.month(memberId, YearMonth.of(year, month)),
+                () -> analysisService.getStats(memberId, year, month));
     }
 
-    private Member getMember(UserDetails userDetails) {
-        return memberService.getMember(userDetails.getUsername());
+    @GetMapping("/stats/yearly")
+    public ResponseEntity<byte[]> getYearlyStats(
+            @RequestParam int year,
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request
+    ) {
+        Long memberId = principal.getMemberId();
+        return responseCache.respond(request, memberId, "stats-" + year,
+                () -> monthVersionService.range(memberId, YearMonth.of(year, 1).atDay(1), YearMonth.of(year, 12).atEndOfMonth()),
+                () -> analysisService.getYearlyStats(memberId, year));
+    }
+
+    // 기간 추이 EmotionTrendResponseDto (GET /api/analysis/trend?from=2025-01-01&to=2025-12-31&unit=WEEK|MONTH|YEAR|ALL)
+    // 기본은 오늘까지 1년, 최대 10년. 12개월을 따로 요청하지 않고 한 번에
+    @GetMapping("/trend")
+    public ResponseEntity<byte[]> getTrend(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") KeywordRange unit,
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request
+    ) {
+        LocalDate endDate = to != null ? to : LocalDate.now();
+        LocalDate startDate = from != null ? from : endDate.minusYears(1).plusDays(1);
+        if (startDate.isAfter(endDate) || startDate.plusYears(10).isBefore(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Long memberId = principal.getMemberId();
+        // 이동 창 때문에 시작일 29일 전 기록까지 결과에 영향을 줌
+        return responseCache.respond(request, memberId, "trend-" + startDate + "-" + endDate + "-" + unit,
+                () -> monthVersionService.range(memberId, startDate.minusDays(29), endDate),
+                () -> analysisService.getTrend(memberId, startDate, endDate, unit));
+    }
+
+    @GetMapping("/stats/all")
+    public ResponseEntity<byte[]> getAllTimeStats(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request
+    ) {
+        Long memberId = principal.getMemberId();
+        return responseCache.respond(request, memberId, "stats-all",
+                () -> monthVersionService.member(memberId),
+                () -> analysisService.getAllTimeStats(memberId));
     }
 }
@@ -0,0 +1,46 @@
+package com.example.filtertoday.analysis.controller;
+
+import com.example.filtertoday.analysis.service.AnalysisResponseCache;
+import com.example.filtertoday.analysis.service.DashboardService;
+import com.example.filtertoday.analysis.service.MonthVersionService;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import com.example.filtertoday.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final MemberService memberService;
+    private final MonthVersionService monthVersionService;
+    private final AnalysisResponseCache responseCache;
+
+    // 대시보드 한 달치 (GET /api/dashboard?year=2025&month=12) -> DashboardResponseDto
+    // 닉네임이 바뀌면 ETag 도 바뀌도록 이름에 닉네임 해시 포함
+    @GetMapping
+    public ResponseEntity<byte[]> getDashboard(
+            @RequestParam int year,
+            @RequestParam int month,
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        Long memberId = principal.getMemberId();
+        String nickname = memberService.getNickname(principal.getUsername());
+        return responseCache.respond(request, memberId,
+                "dashboard-" + year + "-" + month + "-" + Integer.toHexString(nickname.hashCode()),
+                () -> monthVersionService.month(memberId, YearMonth.of(year, month)),
+                () -> dashboardService.getDashboard(memberId, nickname, year, month));
+    }
+}
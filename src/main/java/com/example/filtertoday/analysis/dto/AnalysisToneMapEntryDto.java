@@ -0,0 +1,17 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.common.EmotionType;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisToneMapEntryDto {
+    //색상기록 (간단 모드: 본문은 날짜를 눌렀을 때 따로 조회)
+    private LocalDate date;
+    private String hexCode;
+    private EmotionType emotionType;
+}
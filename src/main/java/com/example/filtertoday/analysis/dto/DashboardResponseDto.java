@@ -0,0 +1,21 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.diary.dto.KeywordResponseDto;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponseDto {
+    //대시보드 한 달치 (톤 맵 + 통계 + 키워드 + 닉네임)
+    private String nickname;
+    private int year;
+    private int month;
+    private List<AnalysisToneMapEntryDto> toneMap;
+    private List<AnalysisStatsResponseDto> stats;
+    private List<KeywordResponseDto> keywords;
+}
@@ -0,0 +1,18 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.common.EmotionType;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmotionStreakDto {
+    //같은 감정으로 하루도 빠짐없이 이어진 기록
+    private EmotionType emotionType;
+    private int days;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,19 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.common.EmotionType;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmotionTrendBucketDto {
+    //한 구간(주/월/연)의 감정 분포 (일기가 없는 구간도 total 0 으로 포함)
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int total;
+    private Map<EmotionType, Integer> counts;
+}
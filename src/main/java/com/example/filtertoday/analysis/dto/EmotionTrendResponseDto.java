@@ -0,0 +1,23 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.diary.dto.KeywordRange;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionTrendResponseDto {
+    //기간 추이 (구간별 분포 + 최근 7/30일 대표 감정 + 연속 기록)
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private KeywordRange unit;
+    private List<EmotionTrendBucketDto> buckets;
+    private List<RollingDominantDto> rolling;
+    private List<EmotionStreakDto> streaks;   // 감정별 가장 긴 연속 기록
+    private EmotionStreakDto latestStreak;    // 마지막 기록이 속한 연속 기록 (없으면 null)
+}
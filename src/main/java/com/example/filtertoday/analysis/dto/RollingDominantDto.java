@@ -0,0 +1,18 @@
+package com.example.filtertoday.analysis.dto;
+
+import com.example.filtertoday.common.EmotionType;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollingDominantDto {
+    //최근 windowDays 일 동안 가장 많았던 감정, 하루 한 칸 (emotions[i] = startDate + i 일, 기록이 없으면 null)
+    private int windowDays;
+    private LocalDate startDate;
+    private List<EmotionType> emotions;
+}
@@ -0,0 +1,34 @@
+package com.example.filtertoday.analysis.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 회원별 · 월별 데이터 버전 (그 달 일기가 바뀔 때 같은 트랜잭션에서 +1) -> 분석 응답 ETag/캐시 키
+// 데이터와 함께 커밋되고 같은 트랜잭션에서 함께 읽으므로, 어느 서버/복제본에서 읽어도 버전과 내용이 어긋나지 않음
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_diary_month_version",
+        columnNames = {"member_id", "version_year", "version_month"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryMonthVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "diary_month_version_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "version_year", nullable = false)
+    private int versionYear;
+
+    @Column(name = "version_month", nullable = false)
+    private int versionMonth;
+
+    @Column(nullable = false)
+    private long version;
+}
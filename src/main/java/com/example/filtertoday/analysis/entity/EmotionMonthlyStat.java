@@ -0,0 +1,39 @@
+package com.example.filtertoday.analysis.entity;
+
+import com.example.filtertoday.common.EmotionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 회원별 · 월별 · 감정별 일기 수 (일기 저장/수정/삭제 시 같은 트랜잭션에서 증감)
+// 월 통계는 이 테이블 한 번 조회, 연간/전체 통계는 같은 테이블을 합산
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_emotion_monthly_stat",
+        columnNames = {"member_id", "stat_year", "stat_month", "emotion_type"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmotionMonthlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "emotion_monthly_stat_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "stat_year", nullable = false)
+    private int statYear;
+
+    @Column(name = "stat_month", nullable = false)
+    private int statMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "emotion_type", nullable = false)
+    private EmotionType emotionType;
+
+    @Column(nullable = false)
+    private long diaryCount;
+}
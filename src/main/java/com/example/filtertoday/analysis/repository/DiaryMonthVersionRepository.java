@@ -0,0 +1,36 @@
+package com.example.filtertoday.analysis.repository;
+
+import com.example.filtertoday.analysis.entity.DiaryMonthVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DiaryMonthVersionRepository extends JpaRepository<DiaryMonthVersion, Long> {
+
+    // 행이 없으면 1로 만들고 있으면 +1 (동시 저장에도 한 문장으로 원자적으로)
+    @Modifying
+    @Query(value = "INSERT INTO diary_month_version (member_id, version_year, version_month, version) " +
+            "VALUES (:memberId, :year, :month, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true)
+    void bump(@Param("memberId") Long memberId, @Param("year") int year, @Param("month") int month);
+
+    // 여러 달의 버전 합: 버전은 줄지 않으므로 포함된 달 중 하나만 바뀌어도 합이 바뀜
+    // fromKey/toKey: 연 * 100 + 월 (uk_diary_month_version 의 member_id 범위 조회)
+    @Query("select coalesce(sum(v.version), 0) from DiaryMonthVersion v " +
+            "where v.memberId = :memberId and (v.versionYear * 100 + v.versionMonth) between :fromKey and :toKey")
+    long sumVersions(@Param("memberId") Long memberId, @Param("fromKey") int fromKey, @Param("toKey") int toKey);
+
+    @Query("select coalesce(sum(v.version), 0) from DiaryMonthVersion v where v.memberId = :memberId")
+    long sumVersions(@Param("memberId") Long memberId);
+
+    // 재집계 후: 일기가 있는 모든 (회원, 달) 의 버전을 올림
+    @Modifying
+    @Query(value = "INSERT INTO diary_month_version (member_id, version_year, version_month, version) " +
+            "SELECT member_id, YEAR(record_date), MONTH(record_date), 1 FROM diary " +
+            "GROUP BY member_id, YEAR(record_date), MONTH(record_date) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1",
+            nativeQuery = true)
+    int bumpAllFromDiaries();
+}
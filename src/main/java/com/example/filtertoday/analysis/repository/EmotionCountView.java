@@ -0,0 +1,10 @@
+package com.example.filtertoday.analysis.repository;
+
+import com.example.filtertoday.common.EmotionType;
+
+// 감정별 일기 수 합계
+public interface EmotionCountView {
+    EmotionType getEmotionType();
+
+    Long getCount();
+}
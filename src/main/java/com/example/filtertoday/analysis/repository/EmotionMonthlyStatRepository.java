@@ -0,0 +1,70 @@
+package com.example.filtertoday.analysis.repository;
+
+import com.example.filtertoday.analysis.entity.EmotionMonthlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface EmotionMonthlyStatRepository extends JpaRepository<EmotionMonthlyStat, Long> {
+
+    // 월 통계: (member_id, stat_year, stat_month) 유니크 인덱스 범위 조회
+    @Query("select s.emotionType as emotionType, s.diaryCount as count from EmotionMonthlyStat s " +
+            "where s.memberId = :memberId and s.statYear = :year and s.statMonth = :month and s.diaryCount > 0")
+    List<EmotionCountView> findMonthly(@Param("memberId") Long memberId,
+                                       @Param("year") int year,
+                                       @Param("month") int month);
+
+    // 연간 통계: 최대 12개월 x 감정 수 만큼의 행만 합산
+    @Query("select s.emotionType as emotionType, sum(s.diaryCount) as count from EmotionMonthlyStat s " +
+            "where s.memberId = :memberId and s.statYear = :year and s.diaryCount > 0 " +
+            "group by s.emotionType")
+    List<EmotionCountView> findYearly(@Param("memberId") Long memberId, @Param("year") int year);
+
+    @Query("select s.emotionType as emotionType, sum(s.diaryCount) as count from EmotionMonthlyStat s " +
+            "where s.memberId = :memberId and s.diaryCount > 0 " +
+            "group by s.emotionType")
+    List<EmotionCountView> findAllTime(@Param("memberId") Long memberId);
+
+    // 행이 없으면 만들고 있으면 더함 (동시 저장에도 한 문장으로 원자적으로 증감)
+    @Modifying
+    @Query(value = "INSERT INTO emotion_monthly_stat (member_id, stat_year, stat_month, emotion_type, diary_count) " +
+            "VALUES (:memberId, :year, :month, :emotionType, :delta) " +
+            "ON DUPLICATE KEY UPDATE diary_count = diary_count + VALUES(diary_count)",
+            nativeQuery = true)
+    void addCount(@Param("memberId") Long memberId,
+                  @Param("year") int year,
+                  @Param("month") int month,
+                  @Param("emotionType") String emotionType,
+                  @Param("delta") long delta);
+
+    // 한 회원의 한 달만 다시 집계 (uk_diary_member_date 범위 조회)
+    @Modifying
+    @Query("delete from EmotionMonthlyStat s " +
+            "where s.memberId = :memberId and s.statYear = :year and s.statMonth = :month")
+    void deleteMonth(@Param("memberId") Long memberId, @Param("year") int year, @Param("month") int month);
+
+    @Modifying
+    @Query(value = "INSERT INTO emotion_monthly_stat (member_id, stat_year, stat_month, emotion_type, diary_count) " +
+            "SELECT member_id, :year, :month, emotion_type, COUNT(*) FROM diary " +
+            "WHERE member_id = :memberId AND record_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY member_id, emotion_type " +
+            "ON DUPLICATE KEY UPDATE diary_count = VALUES(diary_count)",
+            nativeQuery = true)
+    void insertMonthFromDiaries(@Param("memberId") Long memberId,
+                                @Param("year") int year,
+                                @Param("month") int month,
+                                @Param("startDate") LocalDate startDate,
+                                @Param("endDate") LocalDate endDate);
+
+    // 재집계: diary 테이블을 한 번 훑어서 통계 테이블을 다시 채움
+    @Modifying
+    @Query(value = "INSERT INTO emotion_monthly_stat (member_id, stat_year, stat_month, emotion_type, diary_count) " +
+            "SELECT member_id, YEAR(record_date), MONTH(record_date), emotion_type, COUNT(*) FROM diary " +
+            "GROUP BY member_id, YEAR(record_date), MONTH(record_date), emotion_type",
+            nativeQuery = true)
+    int insertFromDiaries();
+}
@@ -0,0 +1,74 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.common.cache.AsyncLoads;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.UncheckedIOException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 월별 분석 응답(JSON) 캐시 + ETag
+// 같은 버전이면 브라우저에는 304, 다른 기기/탭에는 직렬화해 둔 JSON 을 그대로 (조회/직렬화 없음)
+// 버전과 데이터를 한 읽기 트랜잭션에서 읽음 -> 복제본이 뒤처져 있어도 옛 데이터가 새 버전으로 캐시되지 않음
+@Component
+public class AnalysisResponseCache {
+
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AsyncCache<String, byte[]> payloads = Caffeine.newBuilder()
+            .maximumWeight(MAX_BYTES)
+            .<String, byte[]>weigher((key, json) -> json.length)
+            .buildAsync();
+
+    public AnalysisResponseCache(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // name: 응답 종류 + 요청 파라미터, version: MonthVersionService 조회 (loader 와 같은 트랜잭션에서 먼저 실행)
+    public ResponseEntity<byte[]> respond(WebRequest request, Long memberId, String name, LongSupplier version,
+                                          Supplier<?> loader) {
+        return readOnlyTransaction.execute(status -> respondInTransaction(request, memberId, name, version, loader));
+    }
+
+    private ResponseEntity<byte[]> respondInTransaction(WebRequest request, Long memberId, String name,
+                                                        LongSupplier version, Supplier<?> loader) {
+        String etag = "\"" + name + "-" + memberId + "-" + Long.toHexString(version.getAsLong()) + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        byte[] json = AsyncLoads.getOrLoad(payloads, etag, () -> serialize(loader.get()));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 매번 서버에 확인 (304 면 본문 없음)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    public void invalidateAll() {
+        payloads.synchronous().invalidateAll();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.filtertoday.analysis.service;
 
 import com.example.filtertoday.analysis.dto.AnalysisStatsResponseDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapEntryDto;
 import com.example.filtertoday.analysis.dto.AnalysisToneMapResponseDto;
+import com.example.filtertoday.analysis.dto.EmotionTrendResponseDto;
+import com.example.filtertoday.analysis.repository.EmotionCountView;
 //import com.example.filtertoday.analysis.repository.AnalysisRepository;
 import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.KeywordRange;
 import com.example.filtertoday.diary.entity.Diary;
 import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.repository.ToneMapView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,20 +20,24 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AnalysisService {
 
     private final DiaryRepository diaryRepository;
+    private final EmotionStatService emotionStatService;
 //    private final AnalysisRepository analysisRepository;
 
     // 톤 맵 데이터 조회 메서드
     @Transactional(readOnly = true)
     public Map<String, AnalysisToneMapResponseDto> getToneMap(Long memberId, int year, int month) {
-        List<Diary> diaries = getDiariesByMonth(memberId, year, month);
+        return toToneMap(getDiariesByMonth(memberId, year, month));
+    }
 
+    // 조회 결과 -> 응답 변환은 DB 없이 벤치마크할 수 있도록 static 으로 분리 (src/jmh)
+    static Map<String, AnalysisToneMapResponseDto> toToneMap(List<Diary> diaries) {
         Map<String, AnalysisToneMapResponseDto> responseMap = new HashMap<>();
         for (Diary diary : diaries) {
             responseMap.put(diary.getRecordDate().toString(), AnalysisToneMapResponseDto.builder()
@@ -41,31 +50,63 @@ public class AnalysisService {
         return responseMap;
     }
 
-    // 통계 데이터 조회 메서드
+    // 톤 맵 간단 모드: 날짜/색/감정만 날짜순 배열로 (본문은 GET /api/diary?recordDate= 로 필요할 때 조회)
+    @Transactional(readOnly = true)
+    public List<AnalysisToneMapEntryDto> getCompactToneMap(Long memberId, int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        return toCompactToneMap(diaryRepository.findToneMap(memberId, startDate, endDate));
+    }
+
+    static List<AnalysisToneMapEntryDto> toCompactToneMap(List<? extends ToneMapView> days) {
+        return days.stream()
+                .map(day -> new AnalysisToneMapEntryDto(day.getRecordDate(), day.getHexCode(), day.getEmotionType()))
+                .toList();
+    }
+
+    // 통계 데이터 조회 메서드 (저장 시 갱신해 둔 감정 통계 테이블 조회)
     @Transactional(readOnly = true)
     public List<AnalysisStatsResponseDto> getStats(Long memberId, int year, int month) {
-        List<Diary> diaries = getDiariesByMonth(memberId, year, month); // 공통 메서드 재사용
+        return toStatsResponses(emotionStatService.getMonthly(memberId, year, month));
+    }
 
-        // 감성 타입별 개수 집계
-        Map<EmotionType, Long> emotionCount = diaries.stream()
-                .collect(Collectors.groupingBy(Diary::getEmotionType, Collectors.counting()));
+    @Transactional(readOnly = true)
+    public List<AnalysisStatsResponseDto> getYearlyStats(Long memberId, int year) {
+        return toStatsResponses(emotionStatService.getYearly(memberId, year));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnalysisStatsResponseDto> getAllTimeStats(Long memberId) {
+        return toStatsResponses(emotionStatService.getAllTime(memberId));
+    }
 
+    static List<AnalysisStatsResponseDto> toStatsResponses(List<? extends EmotionCountView> emotionCounts) {
         List<AnalysisStatsResponseDto> statsResponses = new ArrayList<>();
 
-        for (Map.Entry<EmotionType, Long> entry : emotionCount.entrySet()) {
-            EmotionType type = entry.getKey();
-            Long count = entry.getValue();
+        for (EmotionCountView emotionCount : emotionCounts) {
+            EmotionType type = emotionCount.getEmotionType();
 
             statsResponses.add(AnalysisStatsResponseDto.builder()
                     .emotionType(type)
                     .emotionType_label(type.getKoreanName())
-                    .count(count.intValue())
+                    .count(emotionCount.getCount().intValue())
                     .hexCode(type.getRepresentativeHexCode()) // 색상 매핑
                     .build());
         }
         return statsResponses;
     }
 
+    // 기간 추이: 날짜순 조회 한 번을 한 줄씩 흘려보내며 구간 분포/이동 창 대표 감정/연속 기록을 함께 계산
+    @Transactional(readOnly = true)
+    public EmotionTrendResponseDto getTrend(Long memberId, LocalDate startDate, LocalDate endDate, KeywordRange unit) {
+        EmotionTrendAccumulator accumulator = new EmotionTrendAccumulator(startDate, endDate, unit);
+        try (Stream<ToneMapView> days = diaryRepository.streamToneMap(memberId,
+                startDate.minusDays(EmotionTrendAccumulator.WINDOW_LOOKBACK_DAYS), endDate)) {
+            days.forEach(day -> accumulator.accept(day.getRecordDate(), day.getEmotionType()));
+        }
+        return accumulator.finish();
+    }
+
     // 월별 일기 조회
     private List<Diary> getDiariesByMonth(Long memberId, int year, int month) {
         LocalDate startDate = LocalDate.of(year, month, 1);
@@ -0,0 +1,97 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.dto.AnalysisStatsResponseDto;
+import com.example.filtertoday.analysis.dto.AnalysisToneMapEntryDto;
+import com.example.filtertoday.analysis.dto.DashboardResponseDto;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.KeywordRange;
+import com.example.filtertoday.diary.dto.KeywordResponseDto;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.repository.ToneMapView;
+import com.example.filtertoday.diary.service.DiaryService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 대시보드 한 달 화면을 요청 한 번으로
+// 일기 쿼리 한 번(날짜/색/감정)에서 톤 맵과 통계를 함께 만들고, 키워드 합산은 다른 스레드에서 동시에 조회
+@Service
+public class DashboardService {
+
+    private static final int KEYWORD_LIMIT = 20;
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryService diaryService;
+    private final TaskExecutor dashboardExecutor;
+
+    public DashboardService(DiaryRepository diaryRepository,
+                            DiaryService diaryService,
+                            @Qualifier("dashboardExecutor") TaskExecutor dashboardExecutor) {
+        this.diaryRepository = diaryRepository;
+        this.diaryService = diaryService;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+
+    // 따로 트랜잭션을 걸지 않음 (톤 맵은 AnalysisResponseCache 의 읽기 트랜잭션, 키워드는 다른 스레드의 별도 트랜잭션)
+    // 키워드 트랜잭션은 버전과 다른 시점을 볼 수 있음: 늦게 시작해도 복제본이 뒤처져 있으면 더 옛 데이터일 수 있으므로
+    // 이 서버에서 방금 쓴 회원은 두 조회 모두 주 DB 로 감 (dashboardExecutor 가 로그인 정보를 넘겨 RecentWrites 판단이 같음)
+    // 다른 서버에서 방금 쓴 경우는 여기서 알 수 없으므로, 복제본이 여러 대면 키워드가 톤 맵보다 옛 시점일 수 있음
+    public DashboardResponseDto getDashboard(Long memberId, String nickname, int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        CompletableFuture<List<KeywordResponseDto>> keywords = CompletableFuture.supplyAsync(
+                () -> diaryService.getTopKeywords(memberId, KeywordRange.MONTH, startDate, KEYWORD_LIMIT),
+                dashboardExecutor);
+
+        MonthSummary summary = summarize(diaryRepository.findToneMap(memberId, startDate, endDate));
+
+        return DashboardResponseDto.builder()
+                .nickname(nickname)
+                .year(year)
+                .month(month)
+                .toneMap(summary.toneMap())
+                .stats(summary.stats())
+                .keywords(join(keywords))
+                .build();
+    }
+
+    record MonthSummary(List<AnalysisToneMapEntryDto> toneMap, List<AnalysisStatsResponseDto> stats) {
+    }
+
+    // 한 번 훑으면서 톤 맵과 감정별 개수를 함께 만듦 (DB 없이 벤치마크할 수 있도록 static, src/jmh)
+    static MonthSummary summarize(List<? extends ToneMapView> days) {
+        List<AnalysisToneMapEntryDto> toneMap = new ArrayList<>(days.size());
+        Map<EmotionType, Integer> emotionCount = new EnumMap<>(EmotionType.class);
+        for (ToneMapView day : days) {
+            toneMap.add(new AnalysisToneMapEntryDto(day.getRecordDate(), day.getHexCode(), day.getEmotionType()));
+            emotionCount.merge(day.getEmotionType(), 1, Integer::sum);
+        }
+
+        List<AnalysisStatsResponseDto> stats = new ArrayList<>();
+        emotionCount.forEach((type, count) -> stats.add(AnalysisStatsResponseDto.builder()
+                .emotionType(type)
+                .emotionType_label(type.getKoreanName())
+                .count(count)
+                .hexCode(type.getRepresentativeHexCode())
+                .build()));
+        return new MonthSummary(toneMap, stats);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.repository.EmotionCountView;
+import com.example.filtertoday.analysis.repository.EmotionMonthlyStatRepository;
+import com.example.filtertoday.common.EmotionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 감정 통계 테이블(emotion_monthly_stat) 관리
+// DiaryService 가 일기를 바꿀 때 같은 트랜잭션 안에서 호출 -> 일기와 통계가 항상 함께 커밋/롤백
+@Service
+@RequiredArgsConstructor
+public class EmotionStatService {
+
+    private final EmotionMonthlyStatRepository statRepository;
+
+    // 일기 한 편의 감정이 from -> to 로 바뀜 (새 일기는 from = null, 삭제는 to = null)
+    @Transactional
+    public void move(Long memberId, LocalDate recordDate, EmotionType from, EmotionType to) {
+        if (from == to) return;
+        if (from != null) add(memberId, recordDate, from, -1);
+        if (to != null) add(memberId, recordDate, to, 1);
+    }
+
+    // 이전 감정을 모르는 변경(덮어쓰기 저장, 가져오기) 후 그 달만 다시 집계
+    @Transactional
+    public void refreshMonth(Long memberId, LocalDate recordDate) {
+        LocalDate startDate = recordDate.withDayOfMonth(1);
+        LocalDate endDate = recordDate.withDayOfMonth(recordDate.lengthOfMonth());
+        statRepository.deleteMonth(memberId, recordDate.getYear(), recordDate.getMonthValue());
+        statRepository.insertMonthFromDiaries(memberId, recordDate.getYear(), recordDate.getMonthValue(),
+                startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmotionCountView> getMonthly(Long memberId, int year, int month) {
+        return statRepository.findMonthly(memberId, year, month);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmotionCountView> getYearly(Long memberId, int year) {
+        return statRepository.findYearly(memberId, year);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmotionCountView> getAllTime(Long memberId) {
+        return statRepository.findAllTime(memberId);
+    }
+
+    public boolean isEmpty() {
+        return statRepository.count() == 0;
+    }
+
+    // 전체 재집계 (기존 데이터 이관, 통계가 어긋났을 때)
+    @Transactional
+    public int rebuildAll() {
+        statRepository.deleteAllInBatch();
+        return statRepository.insertFromDiaries();
+    }
+
+    private void add(Long memberId, LocalDate recordDate, EmotionType emotionType, long delta) {
+        statRepository.addCount(memberId, recordDate.getYear(), recordDate.getMonthValue(), emotionType.name(), delta);
+    }
+}
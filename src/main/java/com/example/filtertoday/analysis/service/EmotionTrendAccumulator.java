@@ -0,0 +1,183 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.dto.EmotionStreakDto;
+import com.example.filtertoday.analysis.dto.EmotionTrendBucketDto;
+import com.example.filtertoday.analysis.dto.EmotionTrendResponseDto;
+import com.example.filtertoday.analysis.dto.RollingDominantDto;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.KeywordRange;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 날짜순으로 들어오는 일기(날짜, 감정)를 한 번만 훑어서 추이 응답을 만듦 (전체 목록을 쌓아 두지 않음)
+// - 구간(주/월/연)별 감정 분포
+// - 최근 7/30일 대표 감정: 날짜마다 창 안의 감정 수 (동점이면 EmotionType 선언 순서가 앞선 감정)
+// - 감정별 가장 긴 연속 기록 (하루라도 비거나 감정이 바뀌면 끊김)
+// 이동 창을 채우기 위해 시작일 이전 WINDOW_LOOKBACK_DAYS 일도 받지만, 분포/연속 기록은 시작일부터만 셈
+final class EmotionTrendAccumulator {
+
+    static final int[] WINDOW_DAYS = {7, 30};
+    static final int WINDOW_LOOKBACK_DAYS = 29;
+
+    private static final EmotionType[] TYPES = EmotionType.values();
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final KeywordRange unit;
+
+    private final List<EmotionTrendBucketDto> buckets = new ArrayList<>();
+    private LocalDate bucketStart;
+    private LocalDate bucketEnd;
+    private final int[] bucketCounts = new int[TYPES.length];
+
+    private final Window[] windows = new Window[WINDOW_DAYS.length];
+    private LocalDate nextDay;
+
+    private final EmotionStreakDto[] longest = new EmotionStreakDto[TYPES.length];
+    private EmotionType runType;
+    private LocalDate runStart;
+    private LocalDate runEnd;
+
+    EmotionTrendAccumulator(LocalDate startDate, LocalDate endDate, KeywordRange unit) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.unit = unit;
+        for (int i = 0; i < WINDOW_DAYS.length; i++) {
+            windows[i] = new Window(WINDOW_DAYS[i]);
+        }
+        this.nextDay = startDate;
+        openBucket(startDate);
+    }
+
+    // 날짜 오름차순, 하루 한 편 (startDate - WINDOW_LOOKBACK_DAYS ~ endDate)
+    void accept(LocalDate date, EmotionType emotionType) {
+        emitUntil(date.minusDays(1));
+        for (Window window : windows) {
+            window.add(date, emotionType);
+        }
+        if (date.isBefore(startDate)) return;
+
+        while (date.isAfter(bucketEnd)) {
+            closeBucket();
+            openBucket(bucketEnd.plusDays(1));
+        }
+        bucketCounts[emotionType.ordinal()]++;
+
+        if (emotionType == runType && runEnd.plusDays(1).equals(date)) {
+            runEnd = date;
+        } else {
+            closeRun();
+            runType = emotionType;
+            runStart = date;
+            runEnd = date;
+        }
+    }
+
+    EmotionTrendResponseDto finish() {
+        emitUntil(endDate);
+        while (true) {
+            closeBucket();
+            if (!bucketEnd.isBefore(endDate)) break;
+            openBucket(bucketEnd.plusDays(1));
+        }
+        closeRun();
+
+        List<EmotionStreakDto> streaks = Arrays.stream(longest).filter(streak -> streak != null).toList();
+        return EmotionTrendResponseDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .unit(unit)
+                .buckets(buckets)
+                .rolling(Arrays.stream(windows)
+                        .map(window -> new RollingDominantDto(window.days, startDate, window.dominants))
+                        .toList())
+                .streaks(streaks)
+                .latestStreak(runType != null ? new EmotionStreakDto(runType, days(runStart, runEnd), runStart, runEnd) : null)
+                .build();
+    }
+
+    // 아직 출력하지 않은 날부터 last 까지, 그날까지 들어온 기록으로 창별 대표 감정을 기록
+    private void emitUntil(LocalDate last) {
+        for (; !nextDay.isAfter(last); nextDay = nextDay.plusDays(1)) {
+            for (Window window : windows) {
+                window.evictBefore(nextDay.minusDays(window.days - 1));
+                window.dominants.add(window.dominant());
+            }
+        }
+    }
+
+    private void openBucket(LocalDate date) {
+        bucketStart = date;
+        LocalDate end = unit.endDate(date);
+        bucketEnd = end.isAfter(endDate) ? endDate : end;
+        Arrays.fill(bucketCounts, 0);
+    }
+
+    private void closeBucket() {
+        Map<EmotionType, Integer> counts = new EnumMap<>(EmotionType.class);
+        int total = 0;
+        for (int i = 0; i < TYPES.length; i++) {
+            if (bucketCounts[i] > 0) {
+                counts.put(TYPES[i], bucketCounts[i]);
+                total += bucketCounts[i];
+            }
+        }
+        buckets.add(new EmotionTrendBucketDto(bucketStart, bucketEnd, total, counts));
+    }
+
+    // 같은 길이면 최근 기록으로 갱신
+    private void closeRun() {
+        if (runType == null) return;
+
+        int days = days(runStart, runEnd);
+        EmotionStreakDto best = longest[runType.ordinal()];
+        if (best == null || days >= best.getDays()) {
+            longest[runType.ordinal()] = new EmotionStreakDto(runType, days, runStart, runEnd);
+        }
+    }
+
+    private static int days(LocalDate start, LocalDate end) {
+        return (int) (end.toEpochDay() - start.toEpochDay()) + 1;
+    }
+
+    // 최근 days 일 안의 기록과 감정별 개수
+    private static final class Window {
+        private final int days;
+        private final Deque<LocalDate> dates = new ArrayDeque<>();
+        private final Deque<EmotionType> types = new ArrayDeque<>();
+        private final int[] counts = new int[TYPES.length];
+        private final List<EmotionType> dominants = new ArrayList<>();
+
+        private Window(int days) {
+            this.days = days;
+        }
+
+        private void add(LocalDate date, EmotionType emotionType) {
+            dates.addLast(date);
+            types.addLast(emotionType);
+            counts[emotionType.ordinal()]++;
+        }
+
+        private void evictBefore(LocalDate first) {
+            while (!dates.isEmpty() && dates.peekFirst().isBefore(first)) {
+                dates.removeFirst();
+                counts[types.removeFirst().ordinal()]--;
+            }
+        }
+
+        private EmotionType dominant() {
+            int best = -1;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0 && (best < 0 || counts[i] > counts[best])) best = i;
+            }
+            return best < 0 ? null : TYPES[best];
+        }
+    }
+}
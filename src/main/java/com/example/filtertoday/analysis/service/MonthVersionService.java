@@ -0,0 +1,56 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.repository.DiaryMonthVersionRepository;
+import com.example.filtertoday.diary.event.DiaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// 회원별 · 월별 데이터 버전 (diary_month_version) -> ETag 와 결과 캐시 키로 사용
+// 일기를 바꾼 트랜잭션 안에서 올리므로 데이터와 함께 커밋/롤백되고 모든 서버가 같은 값을 봄
+// 읽기는 AnalysisResponseCache 가 응답 데이터와 같은 읽기 트랜잭션에서 (복제 지연이 있어도 버전과 내용이 일치)
+@Service
+@RequiredArgsConstructor
+public class MonthVersionService {
+
+    private final DiaryMonthVersionRepository versionRepository;
+
+    @Transactional(readOnly = true)
+    public long month(Long memberId, YearMonth month) {
+        int key = key(month);
+        return versionRepository.sumVersions(memberId, key, key);
+    }
+
+    // 여러 달에 걸친 조회: 포함된 달 버전의 합
+    @Transactional(readOnly = true)
+    public long range(Long memberId, LocalDate startDate, LocalDate endDate) {
+        return versionRepository.sumVersions(memberId, key(YearMonth.from(startDate)), key(YearMonth.from(endDate)));
+    }
+
+    @Transactional(readOnly = true)
+    public long member(Long memberId) {
+        return versionRepository.sumVersions(memberId);
+    }
+
+    // 일기를 바꾼 트랜잭션 안에서 바로 (트랜잭션 밖에서 발행되면 새 트랜잭션)
+    @EventListener
+    @Transactional
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        LocalDate date = event.recordDate();
+        versionRepository.bump(event.memberId(), date.getYear(), date.getMonthValue());
+    }
+
+    // 재집계 등 여러 회원의 데이터가 한꺼번에 바뀐 경우
+    @Transactional
+    public void bumpAll() {
+        versionRepository.bumpAllFromDiaries();
+    }
+
+    private static int key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
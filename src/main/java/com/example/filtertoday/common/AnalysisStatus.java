@@ -0,0 +1,16 @@
+package com.example.filtertoday.common;
+
+import lombok.Getter;
+
+@Getter
+public enum AnalysisStatus {
+    PENDING("분석 중"),
+    COMPLETED("분석 완료"),
+    FAILED("분석 실패");
+
+    private final String koreanName;
+
+    AnalysisStatus(String koreanName) {
+        this.koreanName = koreanName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.filtertoday.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// Caffeine 캐시에 없으면 한 스레드만 loader 를 실행하고 나머지는 그 결과를 기다림
+// Cache.get(key, loader) 는 ConcurrentHashMap 의 synchronized 구간 안에서 loader 를 실행하므로
+// loader 가 AI 호출/DB 조회처럼 블로킹이면 가상 스레드가 캐리어 스레드에 고정(pinning)됨 -> 여기서는 잠금 밖에서 실행
+public final class AsyncLoads {
+
+    private AsyncLoads() {
+    }
+
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        // getIfPresent 로 조회해야 hit/miss 통계가 기록됨
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) return join(cached);
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> loading = cache.asMap().putIfAbsent(key, created);
+        if (loading != null) return join(loading);
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 실패는 캐시하지 않음 (실패한 future 는 캐시에서 자동 제거되지만 기다리던 쪽을 위해 바로 제거)
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 기다리던 쪽도 loader 가 던진 예외를 그대로 받음
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
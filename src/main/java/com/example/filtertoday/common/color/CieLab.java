@@ -0,0 +1,43 @@
+package com.example.filtertoday.common.color;
+
+// sRGB(D65) -> CIELAB 변환. 감마 보정은 256칸 표로 미리 계산
+final class CieLab {
+
+    private static final double[] LINEAR = new double[256];
+
+    private static final double XN = 0.95047;
+    private static final double YN = 1.0;
+    private static final double ZN = 1.08883;
+
+    private static final double EPSILON = 216.0 / 24389.0;
+    private static final double KAPPA = 24389.0 / 27.0;
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double c = i / 255.0;
+            LINEAR[i] = c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4);
+        }
+    }
+
+    private CieLab() {
+    }
+
+    // 결과를 out[offset..offset+2] 에 L, a, b 순서로 기록 (객체 생성 없음)
+    static void fromRgb(int rgb, float[] out, int offset) {
+        double r = LINEAR[(rgb >> 16) & 0xFF];
+        double g = LINEAR[(rgb >> 8) & 0xFF];
+        double b = LINEAR[rgb & 0xFF];
+
+        double fx = f((0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / XN);
+        double fy = f((0.2126729 * r + 0.7151522 * g + 0.0721750 * b) / YN);
+        double fz = f((0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / ZN);
+
+        out[offset] = (float) (116 * fy - 16);
+        out[offset + 1] = (float) (500 * (fx - fy));
+        out[offset + 2] = (float) (200 * (fy - fz));
+    }
+
+    private static double f(double t) {
+        return t > EPSILON ? Math.cbrt(t) : (KAPPA * t + 16) / 116;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.filtertoday.common.color;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.config.ColorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// 사용자가 고른 색과 가장 가까운 감정 찾기
+// 감정 대표색은 기동 시 한 번만 RGB 정수(0xRRGGBB)/Lab 값으로 바꿔 두고, 입력 색도 문자열 생성 없이 바로 파싱
+@Slf4j
+@Component
+public class EmotionColorClassifier {
+
+    // NORMAL 과는 비교하지 않음 (기본색은 AI 분석 대상)
+    private static final EmotionType[] CANDIDATES = Arrays.stream(EmotionType.values())
+            .filter(type -> type != EmotionType.NORMAL)
+            .toArray(EmotionType[]::new);
+
+    // 화면의 기본 회색들 -> 색을 고르지 않은 것으로 봄
+    private static final int NORMAL_RGB = parseHex(EmotionType.NORMAL.getRepresentativeHexCode());
+    private static final int DEFAULT_GRAY_RGB = 0xCCCCCC;
+
+    private final ColorProperties.Distance distance;
+    private final int[] paletteRgb = new int[CANDIDATES.length];
+    private final float[] paletteLab = new float[CANDIDATES.length * 3];
+
+    // 24비트 색 -> CANDIDATES 인덱스 (lookup-table 설정 시에만)
+    private final byte[] lookupTable;
+
+    public EmotionColorClassifier(ColorProperties properties) {
+        this.distance = properties.getDistance();
+        for (int i = 0; i < CANDIDATES.length; i++) {
+            paletteRgb[i] = parseHex(CANDIDATES[i].getRepresentativeHexCode());
+            CieLab.fromRgb(paletteRgb[i], paletteLab, i * 3);
+        }
+        this.lookupTable = properties.isLookupTable() ? buildLookupTable() : null;
+    }
+
+    // "#RRGGBB" -> 감정. 색을 안 골랐거나(기본 회색) 형식이 이상하면 NORMAL
+    public EmotionType classify(String hexCode) {
+        int rgb = parseHex(hexCode);
+        if (rgb < 0 || rgb == NORMAL_RGB || rgb == DEFAULT_GRAY_RGB) return EmotionType.NORMAL;
+
+        return CANDIDATES[lookupTable != null ? lookupTable[rgb] : nearest(rgb)];
+    }
+
+    // 앞 한 글자('#')를 건너뛰고 16진수 6자리를 0xRRGGBB 로. 형식이 틀리면 -1
+    static int parseHex(String hexCode) {
+        if (hexCode == null || hexCode.length() < 7) return -1;
+
+        int rgb = 0;
+        for (int i = 1; i < 7; i++) {
+            int digit = Character.digit(hexCode.charAt(i), 16);
+            if (digit < 0) return -1;
+            rgb = (rgb << 4) | digit;
+        }
+        return rgb;
+    }
+
+    // 대표색이 같은 거리면 EmotionType 선언 순서가 앞선 감정 (기존 동작과 동일)
+    private int nearest(int rgb) {
+        return distance == ColorProperties.Distance.LAB ? nearestLab(rgb) : nearestRgb(rgb);
+    }
+
+    // 제곱 거리 비교라 sqrt 불필요
+    private int nearestRgb(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+
+        int best = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < paletteRgb.length; i++) {
+            int dr = r - ((paletteRgb[i] >> 16) & 0xFF);
+            int dg = g - ((paletteRgb[i] >> 8) & 0xFF);
+            int db = b - (paletteRgb[i] & 0xFF);
+            int d = dr * dr + dg * dg + db * db;
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // CIE76 ΔE (Lab 공간 직선 거리)
+    private int nearestLab(int rgb) {
+        float[] lab = new float[3];
+        CieLab.fromRgb(rgb, lab, 0);
+
+        int best = 0;
+        float bestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < CANDIDATES.length; i++) {
+            float dl = lab[0] - paletteLab[i * 3];
+            float da = lab[1] - paletteLab[i * 3 + 1];
+            float db = lab[2] - paletteLab[i * 3 + 2];
+            float d = dl * dl + da * da + db * db;
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    // R 값별로 나눠 병렬 계산
+    private byte[] buildLookupTable() {
+        long start = System.currentTimeMillis();
+        byte[] table = new byte[1 << 24];
+        IntStream.range(0, 256).parallel().forEach(r -> {
+            int base = r << 16;
+            for (int gb = 0; gb < (1 << 16); gb++) {
+                table[base | gb] = (byte) nearest(base | gb);
+            }
+        });
+        log.info("색상 조회표 생성 완료 ({}): {}ms", distance, System.currentTimeMillis() - start);
+        return table;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.filtertoday.common.color;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 색 -> 가까운 항목 K개 (CIELAB 거리, ΔE76)
+// Lab 공간을 CELL 크기 정육면체 칸으로 나눠 색이 있는 칸만 보관하고, 질의 색의 칸에서 바깥 껍질로 넓혀 가며 찾음
+// 찾은 K번째 거리보다 아직 안 본 껍질이 멀면 멈추므로, 항목이 많아도 질의 색 근처 칸만 읽음
+// 추가/삭제는 항목 하나씩 (칸 목록만 수정). 읽기는 여러 스레드가 동시에
+public final class LabGrid<K> {
+
+    static final float CELL = 10f;
+
+    // L: 0..100, a/b: 약 -128..127 -> 칸 좌표 0..10, 0..25
+    private static final int L_CELLS = 11;
+    private static final int AB_CELLS = 26;
+    private static final int MAX_RING = AB_CELLS;
+
+    private final Comparator<K> tieBreak;
+    private final Map<Integer, List<Point<K>>> cells = new HashMap<>();
+    private final Map<K, Point<K>> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 거리가 같으면 tieBreak 순서가 앞선 항목이 먼저 (예: 최근 날짜)
+    public LabGrid(Comparator<K> tieBreak) {
+        this.tieBreak = tieBreak;
+    }
+
+    // "#RRGGBB" 가 아니면 무시 (기존 항목은 삭제)
+    public void put(K key, String hexCode) {
+        int rgb = EmotionColorClassifier.parseHex(hexCode);
+        if (rgb < 0) {
+            remove(key);
+            return;
+        }
+
+        float[] lab = new float[3];
+        CieLab.fromRgb(rgb, lab, 0);
+        Point<K> point = new Point<>(key, rgb, lab[0], lab[1], lab[2], cellOf(lab[0], lab[1], lab[2]));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            points.put(key, point);
+            cells.computeIfAbsent(point.cell(), cell -> new ArrayList<>()).add(point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(K key) {
+        Point<K> previous = points.remove(key);
+        if (previous == null) return;
+
+        List<Point<K>> cell = cells.get(previous.cell());
+        cell.remove(previous);
+        if (cell.isEmpty()) cells.remove(previous.cell());
+    }
+
+    // 저장된 항목의 색 (0xRRGGBB), 없으면 -1
+    public int rgbOf(K key) {
+        lock.readLock().lock();
+        try {
+            Point<K> point = points.get(key);
+            return point != null ? point.rgb() : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가까운 순 최대 k개 (exclude 는 결과에서 뺄 항목, 없으면 null)
+    public List<Neighbor<K>> nearest(int rgb, int k, K exclude) {
+        float[] lab = new float[3];
+        CieLab.fromRgb(rgb, lab, 0);
+        int center = cellOf(lab[0], lab[1], lab[2]);
+        int cl = center >> 16;
+        int ca = (center >> 8) & 0xFF;
+        int cb = center & 0xFF;
+
+        // 가장 먼 후보가 맨 위 (k개를 넘으면 버림)
+        Comparator<Neighbor<K>> closerFirst = Comparator.<Neighbor<K>>comparingDouble(Neighbor::distance)
+                .thenComparing(Neighbor::key, tieBreak);
+        PriorityQueue<Neighbor<K>> best = new PriorityQueue<>(k + 1, closerFirst.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= MAX_RING; ring++) {
+                // 껍질의 칸 수가 색이 있는 칸 수보다 많으면, 남은 칸을 직접 훑는 편이 빠름 (항목이 적은 회원)
+                if (ringCellCount(ring) >= cells.size()) {
+                    for (Map.Entry<Integer, List<Point<K>>> entry : cells.entrySet()) {
+                        if (chebyshev(entry.getKey(), cl, ca, cb) >= ring) {
+                            offerAll(entry.getValue(), lab, k, exclude, best);
+                        }
+                    }
+                    break;
+                }
+
+                visitRing(ring, cl, ca, cb, lab, k, exclude, best);
+
+                // 다음 껍질의 점은 모두 ring * CELL 보다 멀리 있음
+                if (best.size() == k && best.peek().distance() <= ring * CELL) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbor<K>> result = new ArrayList<>(best);
+        result.sort(closerFirst);
+        return result;
+    }
+
+    private void visitRing(int ring, int cl, int ca, int cb, float[] lab, int k, K exclude,
+                           PriorityQueue<Neighbor<K>> best) {
+        for (int l = Math.max(0, cl - ring); l <= Math.min(L_CELLS - 1, cl + ring); l++) {
+            for (int a = Math.max(0, ca - ring); a <= Math.min(AB_CELLS - 1, ca + ring); a++) {
+                boolean onShell = Math.abs(l - cl) == ring || Math.abs(a - ca) == ring;
+                // 껍질 위가 아니면 b 는 양 끝 두 칸만
+                int step = onShell ? 1 : Math.max(1, 2 * ring);
+                for (int b = cb - ring; b <= cb + ring; b += step) {
+                    if (b < 0 || b >= AB_CELLS) continue;
+                    List<Point<K>> cell = cells.get((l << 16) | (a << 8) | b);
+                    if (cell != null) offerAll(cell, lab, k, exclude, best);
+                }
+            }
+        }
+    }
+
+    private void offerAll(List<Point<K>> cell, float[] lab, int k, K exclude, PriorityQueue<Neighbor<K>> best) {
+        for (Point<K> point : cell) {
+            if (exclude != null && exclude.equals(point.key())) continue;
+
+            float dl = lab[0] - point.l();
+            float da = lab[1] - point.a();
+            float db = lab[2] - point.b();
+            best.add(new Neighbor<>(point.key(), point.rgb(), Math.sqrt(dl * dl + da * da + db * db)));
+            if (best.size() > k) best.poll();
+        }
+    }
+
+    // 한 변이 2r+1 인 정육면체 겉면의 칸 수 (격자 밖 포함, 상한으로만 사용)
+    private static long ringCellCount(int ring) {
+        if (ring == 0) return 1;
+        long outer = 2L * ring + 1;
+        long inner = outer - 2;
+        return outer * outer * outer - inner * inner * inner;
+    }
+
+    private static int chebyshev(int cell, int cl, int ca, int cb) {
+        return Math.max(Math.abs((cell >> 16) - cl),
+                Math.max(Math.abs(((cell >> 8) & 0xFF) - ca), Math.abs((cell & 0xFF) - cb)));
+    }
+
+    private static int cellOf(float l, float a, float b) {
+        return (clamp((int) (l / CELL), L_CELLS) << 16)
+                | (clamp((int) Math.floor((a + 128) / CELL), AB_CELLS) << 8)
+                | clamp((int) Math.floor((b + 128) / CELL), AB_CELLS);
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    private record Point<K>(K key, int rgb, float l, float a, float b, int cell) {
+    }
+
+    public record Neighbor<K>(K key, int rgb, double distance) {
+
+        public String hexCode() {
+            return String.format("#%06X", rgb);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.filtertoday.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// @Transactional(readOnly = true) 는 복제본, 나머지는 주 DB
+// - 트랜잭션 밖 / 쓰기 트랜잭션 -> 주 DB (쓰기 커밋 후 그 회원을 RecentWrites 에 기록)
+// - 최근 쓰기가 있는 회원의 읽기 -> 주 DB (방금 저장한 일기가 바로 보이도록)
+// - Spring Data 리포지토리 자체의 기본 읽기 전용 트랜잭션(서비스 트랜잭션 밖 호출: 로그인 회원 조회 등) -> 주 DB
+// 트랜잭션 속성이 정해진 뒤 실제 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    private final RecentWrites recentWrites;
+    private final Supplier<Long> currentMemberId;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      RecentWrites recentWrites, Supplier<Long> currentMemberId) {
+        this.recentWrites = recentWrites;
+        this.currentMemberId = currentMemberId;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return Route.PRIMARY;
+
+        Long memberId = currentMemberId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markAfterCommit(memberId);
+            return Route.PRIMARY;
+        }
+
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (name != null && name.startsWith(REPOSITORY_TRANSACTION_PREFIX)) return Route.PRIMARY;
+        return recentWrites.contains(memberId) ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private void markAfterCommit(Long memberId) {
+        if (memberId == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWrites.mark(memberId);
+            }
+        });
+    }
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.filtertoday.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+// 최근 max-lag 안에 쓰기를 커밋한 회원 -> 복제본에 아직 반영되지 않았을 수 있으므로 읽기도 주 DB 에서
+// 서버마다 따로 기록 (다른 서버에서 쓴 직후 이 서버로 온 읽기는 복제본을 볼 수 있음)
+public class RecentWrites {
+
+    private static final int MAX_SIZE = 100_000;
+
+    private final Cache<Long, Boolean> members;
+
+    public RecentWrites(Duration maxLag) {
+        this(maxLag, Ticker.systemTicker());
+    }
+
+    RecentWrites(Duration maxLag, Ticker ticker) {
+        this.members = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(maxLag)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void mark(Long memberId) {
+        if (memberId != null) members.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean contains(Long memberId) {
+        return memberId != null && members.getIfPresent(memberId) != null;
+    }
+}
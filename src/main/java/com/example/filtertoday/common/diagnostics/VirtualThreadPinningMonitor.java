@@ -0,0 +1,69 @@
+package com.example.filtertoday.common.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 가상 스레드 모드에서만: synchronized 구간/네이티브 호출 안에서 블로킹되어 캐리어 스레드에 고정(pinning)된 경우를 기록
+// JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독 -> 경고 로그(스택 상위 몇 줄) + jvm.threads.virtual.pinned 카운터
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${diagnostics.pinning-threshold:20ms}") Duration threshold,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = meterRegistry.counter("jvm.threads.virtual.pinned");
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::report);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작 (기준 {}ms)", threshold.toMillis());
+    }
+
+    private void report(RecordedEvent event) {
+        pinned.increment();
+        if (!log.isWarnEnabled()) return;
+
+        String stack = event.getStackTrace() == null ? "(스택 없음)" : frames(event.getStackTrace().getFrames());
+        log.warn("가상 스레드 pinning {}ms, thread={}\n{}", event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "?", stack);
+    }
+
+    private static String frames(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.filtertoday.common.io;
+
+import java.io.IOException;
+
+// CSV 구조가 깨져서 더 읽을 수 없음 (닫히지 않은 따옴표 등). recordNumber 는 문제가 시작된 레코드 (헤더 포함 1부터)
+public class CsvFormatException extends IOException {
+
+    private final int recordNumber;
+
+    public CsvFormatException(int recordNumber, String message) {
+        super(message);
+        this.recordNumber = recordNumber;
+    }
+
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.filtertoday.common.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 CSV 를 한 레코드씩 읽음 (따옴표 안의 쉼표/줄바꿈/"" 지원). 전체 파일을 메모리에 올리지 않음
+public class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;
+    private int recordNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드의 필드 목록. 더 읽을 게 없으면 null
+    public List<String> readRecord() throws IOException {
+        int c = next();
+        if (c == -1) return null;
+        recordNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new CsvFormatException(recordNumber, "닫히지 않은 따옴표가 있습니다.");
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append('"');
+                        next();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') next();
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = next();
+        }
+    }
+
+    // 지금까지 읽은 레코드 수 (마지막으로 돌려준 레코드의 번호, 헤더 포함 1부터)
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    private int next() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) peeked = reader.read();
+        return peeked;
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈
+    public static String escape(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
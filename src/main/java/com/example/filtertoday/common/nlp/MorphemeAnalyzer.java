@@ -0,0 +1,171 @@
+package com.example.filtertoday.common.nlp;
+
+import com.example.filtertoday.config.KomoranProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 앱 전체가 공유하는 KOMORAN 형태소 분석기
+// - FULL 모델 로딩(수 초)을 백그라운드 스레드에서 해서 서버 기동을 막지 않음
+// - analyze() 는 호출 스레드에서, analyzeAll() 은 코어 수만큼의 전용 풀에서 문서별로 병렬 분석
+// - Komoran.analyze() 는 호출마다 Lattice 를 새로 만들고 사전은 읽기만 하므로 인스턴스 하나를 여러 스레드가 공유해도 안전
+// - 문서마다 komoran.analyze(분석 시간)와 komoran.tokens(토큰 수)를 기록 (워밍업 제외)
+@Slf4j
+@Component
+public class MorphemeAnalyzer {
+
+    private static final String WARM_UP_SENTENCE = "오늘은 친구들과 맛있는 저녁을 먹어서 즐거웠다.";
+
+    private final Duration loadTimeout;
+    private final ExecutorService pool;
+    private final CompletableFuture<Komoran> komoran = new CompletableFuture<>();
+    private final Timer analyzeTimer;
+    private final DistributionSummary tokenCounts;
+
+    private volatile Duration loadTime;
+    private volatile Duration warmUpTime;
+
+    // 스프링 밖(테스트, 벤치마크)에서 만들 때
+    public MorphemeAnalyzer(KomoranProperties properties) {
+        this(properties, new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public MorphemeAnalyzer(KomoranProperties properties, MeterRegistry meterRegistry) {
+        this.loadTimeout = properties.getLoadTimeout();
+        this.analyzeTimer = meterRegistry.timer("komoran.analyze");
+        this.tokenCounts = meterRegistry.summary("komoran.tokens");
+        this.pool = Executors.newFixedThreadPool(properties.resolvedPoolSize(), namedThreads("komoran-"));
+
+        Thread.ofPlatform().name("komoran-loader").daemon().start(() -> {
+            try {
+                komoran.complete(loadAndWarmUp());
+            } catch (Throwable e) {
+                log.error("KOMORAN 모델 로딩 실패", e);
+                komoran.completeExceptionally(e);
+            }
+        });
+    }
+
+    private Komoran loadAndWarmUp() {
+        long start = System.nanoTime();
+        Komoran loaded = new Komoran(DEFAULT_MODEL.FULL);
+        loadTime = Duration.ofNanos(System.nanoTime() - start);
+
+        // 첫 분석은 JIT/클래스 로딩 때문에 느리므로 미리 몇 번 돌려둠
+        long warmUpStart = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            loaded.analyze(WARM_UP_SENTENCE);
+        }
+        warmUpTime = Duration.ofNanos(System.nanoTime() - warmUpStart);
+
+        log.info("KOMORAN 모델 로딩 완료: 로딩 {}ms, 워밍업 {}ms", loadTime.toMillis(), warmUpTime.toMillis());
+        return loaded;
+    }
+
+    // 한 문서 분석 (모델 로딩 전이면 loadTimeout 까지 대기)
+    public List<Token> analyze(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        return tokenize(komoran(), text);
+    }
+
+    // 여러 문서를 전용 풀에서 병렬 분석, 입력 순서대로 반환
+    public List<List<Token>> analyzeAll(List<String> texts) {
+        Komoran analyzer = komoran();
+
+        List<Future<List<Token>>> futures = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            futures.add(pool.submit(() -> text == null || text.isBlank()
+                    ? List.<Token>of()
+                    : tokenize(analyzer, text)));
+        }
+
+        List<List<Token>> results = new ArrayList<>(texts.size());
+        try {
+            for (Future<List<Token>> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("형태소 분석이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("형태소 분석에 실패했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    private List<Token> tokenize(Komoran analyzer, String text) {
+        long start = System.nanoTime();
+        List<Token> tokens = analyzer.analyze(text).getTokenList();
+        analyzeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        tokenCounts.record(tokens.size());
+        return tokens;
+    }
+
+    public boolean isReady() {
+        return komoran.isDone() && !komoran.isCompletedExceptionally();
+    }
+
+    public boolean isFailed() {
+        return komoran.isCompletedExceptionally();
+    }
+
+    public Optional<Duration> getLoadTime() {
+        return Optional.ofNullable(loadTime);
+    }
+
+    public Optional<Duration> getWarmUpTime() {
+        return Optional.ofNullable(warmUpTime);
+    }
+
+    private Komoran komoran() {
+        try {
+            return komoran.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("KOMORAN 로딩 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("KOMORAN 모델 로딩에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("KOMORAN 모델이 아직 로딩 중입니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.filtertoday.common.nlp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// /actuator/health 의 komoran 항목: 모델 로딩/워밍업 상태와 소요 시간
+@Component("komoran")
+@RequiredArgsConstructor
+public class MorphemeAnalyzerHealthIndicator implements HealthIndicator {
+
+    private final MorphemeAnalyzer morphemeAnalyzer;
+
+    @Override
+    public Health health() {
+        if (morphemeAnalyzer.isFailed()) return Health.down().withDetail("ready", false).build();
+
+        // 로딩 중에도 다른 기능은 정상 동작하므로 UP 으로 두고 상태만 상세에 표시
+        Health.Builder builder = Health.up().withDetail("ready", morphemeAnalyzer.isReady());
+        morphemeAnalyzer.getLoadTime().ifPresent(time -> builder.withDetail("loadTimeMs", time.toMillis()));
+        morphemeAnalyzer.getWarmUpTime().ifPresent(time -> builder.withDetail("warmUpTimeMs", time.toMillis()));
+        return builder.build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.filtertoday.common.nlp;
+
+import java.util.function.ObjIntConsumer;
+
+// 문자열 -> int 빈도 카운터 (open addressing)
+// HashMap<String, Integer> 와 달리 Integer 박싱/Entry 객체 없이 배열 두 개만 사용
+public class TermCounter {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private String[] keys;
+    private int[] counts;
+    private int size;
+
+    public TermCounter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TermCounter(int expectedTerms) {
+        int capacity = Integer.highestOneBit(Math.max(expectedTerms * 2, DEFAULT_CAPACITY) - 1) << 1;
+        this.keys = new String[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public void increment(String term) {
+        add(term, 1);
+    }
+
+    public void add(String term, int delta) {
+        int mask = keys.length - 1;
+        int slot = mix(term.hashCode()) & mask;
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(term)) {
+                counts[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = term;
+        counts[slot] = delta;
+        // 사용률 50% 넘으면 두 배로 (선형 탐사 거리 유지)
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    public int get(String term) {
+        int mask = keys.length - 1;
+        int slot = mix(term.hashCode()) & mask;
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(term)) return counts[slot];
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(ObjIntConsumer<String> consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) consumer.accept(keys[i], counts[i]);
+        }
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new String[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+
+            int slot = mix(oldKeys[i].hashCode()) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            counts[slot] = oldCounts[i];
+        }
+    }
+
+    // String.hashCode 하위 비트가 고르지 않은 경우 대비
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.filtertoday.common.nlp;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 빈도 상위 K개 선택 (크기 K 의 최소 힙)
+// 전체를 정렬하지 않으므로 후보 N개에 대해 O(N log K), 힙에 들어가지 못하는 후보는 객체도 만들지 않음
+public class TopKSelector {
+
+    // 빈도가 같으면 사전순으로 앞선 단어가 위로 (결과가 항상 같도록)
+    private static final Comparator<TermCount> ASCENDING = Comparator
+            .comparingLong(TermCount::count)
+            .thenComparing(TermCount::term, Comparator.reverseOrder());
+
+    private final int k;
+    private final PriorityQueue<TermCount> heap;
+
+    public TopKSelector(int k) {
+        if (k <= 0) throw new IllegalArgumentException("k 는 1 이상이어야 합니다.");
+        this.k = k;
+        this.heap = new PriorityQueue<>(k + 1, ASCENDING);
+    }
+
+    public static List<TermCount> top(TermCounter counter, int k) {
+        TopKSelector selector = new TopKSelector(k);
+        counter.forEach(selector::offer);
+        return selector.result();
+    }
+
+    public void offer(String term, long count) {
+        if (heap.size() == k) {
+            TermCount min = heap.peek();
+            if (count < min.count() || (count == min.count() && term.compareTo(min.term()) > 0)) return;
+        }
+
+        heap.add(new TermCount(term, count));
+        if (heap.size() > k) heap.poll();
+    }
+
+    // 빈도 내림차순
+    public List<TermCount> result() {
+        List<TermCount> result = new ArrayList<>(heap);
+        result.sort(ASCENDING.reversed());
+        return result;
+    }
+
+    public record TermCount(String term, long count) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.filtertoday.config;
+
+import com.example.filtertoday.diary.classifier.AiEmotionClient;
+import com.example.filtertoday.diary.classifier.EmotionClassifier;
+import com.example.filtertoday.diary.classifier.LexiconEmotionClassifier;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+@EnableConfigurationProperties(AiProperties.class)
+public class AiClientConfig {
+
+    // 파이썬 AI 서버 전용 WebClient (서버가 멈춰도 요청이 무한정 걸려 있지 않도록 타임아웃 설정)
+    @Bean
+    public WebClient aiWebClient(WebClient.Builder builder, AiProperties aiProperties) {
+        AiProperties.Timeout timeout = aiProperties.getTimeout();
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.getConnect().toMillis())
+                .responseTimeout(timeout.getResponse());
+
+        return builder
+                .baseUrl(aiProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // 서비스에서 주입받는 기본 분류기 (ai.classifier 설정으로 선택)
+    @Bean
+    @Primary
+    public EmotionClassifier emotionClassifier(AiProperties aiProperties,
+                                               AiEmotionClient aiEmotionClient,
+                                               LexiconEmotionClassifier lexiconEmotionClassifier) {
+        return aiProperties.getClassifier() == AiProperties.ClassifierMode.LEXICON
+                ? lexiconEmotionClassifier
+                : aiEmotionClient;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.filtertoday.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 ai.* 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai")
+public class AiProperties {
+
+    // 파이썬 감정 분석 서버 주소
+    private String baseUrl = "http://localhost:8000";
+
+    // 기본 감정 분류기: AI(파이썬 서버, 장애 시 사전으로 대체) 또는 LEXICON(내장 사전만 사용)
+    private ClassifierMode classifier = ClassifierMode.AI;
+
+    private Analysis analysis = new Analysis();
+    private Batch batch = new Batch();
+    private Cache cache = new Cache();
+    private Timeout timeout = new Timeout();
+
+    public enum ClassifierMode {
+        AI, LEXICON
+    }
+
+    @Getter
+    @Setter
+    public static class Analysis {
+        // 비동기 분석 스레드 수 (동시에 AI 서버로 나가는 요청 수의 상한)
+        private int poolSize = 4;
+        // 스레드가 모두 바쁠 때 대기시킬 작업 수 (넘치면 버림 -> PENDING 으로 남아 sweep 때 다시 요청)
+        private int queueCapacity = 200;
+        // PENDING 으로 남은 일기(대기열 초과, 재시작 등)를 다시 분석 요청하는 주기
+        private Duration sweepInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        // true 면 동시에 들어온 분석 요청을 모아 /analyze_batch 한 번으로 보냄
+        private boolean enabled = false;
+        // 한 번에 묶을 최대 요청 수
+        private int maxSize = 16;
+        // 첫 요청이 들어온 뒤 더 모으기 위해 기다리는 최대 시간
+        private Duration maxWait = Duration.ofMillis(20);
+        // 동시에 AI 서버로 나가 있을 수 있는 배치 수
+        private int maxInFlight = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // 같은 내용의 분류 결과 재사용 여부
+        private boolean enabled = true;
+        // 메모리에 보관할 최대 결과 수
+        private long maxSize = 10_000;
+        // 결과 유효 기간 (모델이 바뀌면 이 기간 안에 자연스럽게 교체됨)
+        private Duration ttl = Duration.ofDays(1);
+        // true 면 emotion_cache 테이블에도 저장해서 재시작 후에도 재사용
+        private boolean persistent = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Timeout {
+        // TCP 연결 제한 시간
+        private Duration connect = Duration.ofSeconds(1);
+        // 요청 후 응답이 오기까지 제한 시간
+        private Duration response = Duration.ofSeconds(3);
+        // 호출 1건의 전체 제한 시간 (배치 대기 시간 포함)
+        private Duration deadline = Duration.ofSeconds(5);
+    }
+}
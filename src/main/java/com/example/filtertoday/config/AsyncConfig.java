@@ -0,0 +1,76 @@
+package com.example.filtertoday.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// spring.threads.virtual.enabled=true (virtual 프로필) 이면 작업마다 가상 스레드, 아니면 고정 크기 스레드 풀
+// 두 방식 모두 동시 실행 수에 상한이 있어서 AI 서버/DB 로 나가는 양은 같게 유지됨
+@Configuration
+@EnableAsync
+@EnableScheduling
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final AiProperties aiProperties;
+    private final Environment environment;
+
+    // 감정 분석 전용 스레드 풀 (톰캣 요청 스레드, DB 커넥션과 분리)
+    // 가상 스레드 모드도 같은 풀 크기/대기열 (스레드만 가상 스레드) -> 대기열이 차면 거절
+    @Bean(name = "emotionAnalysisExecutor")
+    public ThreadPoolTaskExecutor emotionAnalysisExecutor() {
+        AiProperties.Analysis analysis = aiProperties.getAnalysis();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analysis.getPoolSize());
+        executor.setMaxPoolSize(analysis.getPoolSize());
+        executor.setQueueCapacity(analysis.getQueueCapacity());
+        executor.setThreadNamePrefix("emotion-analysis-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        // 큐까지 가득 차면 거절 (TaskRejectedException) -> EmotionAnalysisWorker 가 PENDING 으로 두고 sweep 때 다시 요청
+        // 호출한 스레드(저장 요청의 커밋 후 콜백)에서 AI 를 부르지 않도록 CallerRuns 는 쓰지 않음
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 대시보드 병렬 조회용 (키워드 합산 등 DB 조회라 작게)
+    // 요청 스레드의 로그인 정보를 작업에 넘김 -> 복제본 라우팅이 같은 회원으로 판단 (방금 쓴 회원은 작업에서도 주 DB)
+    @Bean(name = "dashboardExecutor")
+    public AsyncTaskExecutor dashboardExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = virtualThreads("dashboard-", 100);
+            executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("dashboard-");
+        // 밀리면 요청 스레드에서 직접 조회 (순차 처리와 같아질 뿐 실패하지 않음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreads(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
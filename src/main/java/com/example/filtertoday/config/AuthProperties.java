@@ -0,0 +1,36 @@
+package com.example.filtertoday.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 auth.* 설정값 (로그인 유지 방식)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth")
+public class AuthProperties {
+
+    // SESSION: 서버 세션(기존) / TOKEN: 서명된 토큰 쿠키 -> 어느 서버로 가도 세션 조회/회원 조회 없이 인증
+    private Mode mode = Mode.SESSION;
+
+    private final Token token = new Token();
+
+    public enum Mode {
+        SESSION, TOKEN
+    }
+
+    @Getter
+    @Setter
+    public static class Token {
+        private String secret;                                    // HS256 서명 키 (32바이트 이상, 모든 서버가 같은 값)
+        private String issuer = "filter-today";
+        private Duration accessTtl = Duration.ofMinutes(15);       // 접근 토큰 (회원 정보 포함, 폐기 불가라 짧게)
+        private Duration refreshTtl = Duration.ofDays(14);         // 재발급 토큰 (DB 에 해시로 저장, 폐기 가능)
+        private Duration refreshReuseGrace = Duration.ofSeconds(30); // 교체 직후 같은 재발급 토큰을 동시에 쓴 요청 허용
+        private String accessCookie = "FT_ACCESS";
+        private String refreshCookie = "FT_REFRESH";
+        private boolean secureCookie = false;                     // HTTPS 환경이면 true
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.filtertoday.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ColorProperties.class)
+public class ColorConfig {
+}
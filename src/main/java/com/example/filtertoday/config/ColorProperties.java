@@ -0,0 +1,22 @@
+package com.example.filtertoday.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml 의 color.* 설정값 (사용자가 고른 색 -> 감정 매칭 방식)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "color")
+public class ColorProperties {
+
+    // RGB: 기존과 같은 RGB 직선 거리 / LAB: 사람 눈 기준 색 차이(CIELAB ΔE)
+    private Distance distance = Distance.RGB;
+
+    // true 면 기동 시 모든 24비트 색의 결과를 미리 계산 (16MB, 이후 분류는 배열 조회 한 번)
+    private boolean lookupTable = false;
+
+    public enum Distance {
+        RGB, LAB
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.filtertoday.config;
+
+import com.example.filtertoday.analysis.service.AnalysisResponseCache;
+import com.example.filtertoday.analysis.service.EmotionStatService;
+import com.example.filtertoday.analysis.service.MonthVersionService;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.service.KeywordIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 저장 시점에 미리 계산해 두는 데이터(키워드, 감정 통계)를 다시 만드는 명령
+// 예: java -jar filtertoday.jar --rebuild-index=keywords,stats (search 는 keywords 와 같음: 검색 역색인이 키워드 테이블)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexRebuildRunner implements ApplicationRunner {
+
+    private final KeywordIndexService keywordIndexService;
+    private final EmotionStatService emotionStatService;
+    private final MonthVersionService monthVersionService;
+    private final AnalysisResponseCache analysisResponseCache;
+    private final DiaryRepository diaryRepository;
+
+    // 색인/통계가 비어 있는데 일기가 있으면(기존 데이터 이관 직후) 자동으로 채움
+    @Value("${index.rebuild-if-empty:true}")
+    private boolean rebuildIfEmpty;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> targets = new LinkedHashSet<>();
+        List<String> options = args.getOptionValues("rebuild-index");
+        if (options != null) {
+            options.forEach(option -> targets.addAll(List.of(option.split(","))));
+        }
+
+        if (rebuildIfEmpty && diaryRepository.count() > 0) {
+            if (keywordIndexService.isEmpty()) targets.add("keywords");
+            if (emotionStatService.isEmpty()) targets.add("stats");
+        }
+
+        for (String target : targets) {
+            rebuild(target.trim());
+        }
+        if (!targets.isEmpty()) {
+            // 다시 만든 데이터로 응답하도록 분석 응답 캐시/ETag 초기화
+            monthVersionService.bumpAll();
+            analysisResponseCache.invalidateAll();
+        }
+    }
+
+    private void rebuild(String target) {
+        long start = System.currentTimeMillis();
+        switch (target) {
+            case "keywords", "search" -> log.info("키워드 색인 재생성 완료: 일기 {}건, {}ms",
+                    keywordIndexService.rebuildAll(), System.currentTimeMillis() - start);
+            case "stats" -> log.info("감정 통계 재집계 완료: {}행, {}ms",
+                    emotionStatService.rebuildAll(), System.currentTimeMillis() - start);
+            default -> log.warn("알 수 없는 재색인 대상입니다: {}", target);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.filtertoday.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// KOMORAN 인스턴스 자체는 MorphemeAnalyzer 가 백그라운드에서 로딩/관리
+@Configuration
+@EnableConfigurationProperties(KomoranProperties.class)
+public class KomoranConfig {
+}
@@ -0,0 +1,24 @@
+package com.example.filtertoday.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 komoran.* 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "komoran")
+public class KomoranProperties {
+
+    // 형태소 분석 병렬 처리 스레드 수 (0 이면 CPU 코어 수)
+    private int poolSize = 0;
+
+    // 백그라운드 모델 로딩을 기다리는 최대 시간 (로딩 전에 분석 요청이 오면 이만큼 대기)
+    private Duration loadTimeout = Duration.ofSeconds(60);
+
+    public int resolvedPoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
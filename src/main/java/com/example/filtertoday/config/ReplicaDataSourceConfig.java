@@ -0,0 +1,85 @@
+package com.example.filtertoday.config;
+
+import com.example.filtertoday.common.datasource.ReadWriteRoutingDataSource;
+import com.example.filtertoday.common.datasource.RecentWrites;
+import com.example.filtertoday.diary.event.DiaryChangedEvent;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+
+// replica.enabled=true: 주 DB(spring.datasource) + 읽기 복제본(replica.*) 을 트랜잭션 읽기 전용 여부로 나눠 사용
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    private final RecentWrites recentWrites;
+
+    public ReplicaDataSourceConfig(ReplicaProperties replicaProperties) {
+        this.recentWrites = new RecentWrites(replicaProperties.getMaxLag());
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties replicaProperties) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .driverClassName(replicaProperties.getDriverClassName())
+                .build();
+        replica.setPoolName("replica");
+        replica.setMaximumPoolSize(replicaProperties.getPoolSize());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public RecentWrites recentWrites() {
+        return recentWrites;
+    }
+
+    // JPA/JdbcTemplate 이 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, recentWrites, ReplicaDataSourceConfig::currentMemberId);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // 비동기 분석 결과 반영처럼 로그인 요청 밖에서 바뀐 일기도 그 회원의 최근 쓰기로 기록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        recentWrites.mark(event.memberId());
+    }
+
+    // 로그인 회원 (요청 스레드, 또는 로그인 정보를 넘겨받은 dashboardExecutor 작업)
+    public static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.filtertoday.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// application.yml 의 replica.* 설정값 (읽기 전용 복제 DB)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "replica")
+public class ReplicaProperties {
+
+    // true 면 @Transactional(readOnly = true) 조회를 복제본으로 보냄 (false 면 spring.datasource 하나만 사용)
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int poolSize = 10;
+
+    // 허용하는 복제 지연: 쓰기 후 이 시간 동안은 그 회원의 읽기도 주 DB 에서
+    private Duration maxLag = Duration.ofSeconds(2);
+}
@@ -1,15 +1,22 @@
 package com.example.filtertoday.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
+import org.springframework.security.config.annotation.web.configurers.FormLoginConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AuthProperties.class)
 public class SecurityConfig {
 
     @Bean
@@ -17,23 +24,45 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder(); // 회원가입 시 비번 암호화에 필수
     }
 
+    // auth.mode=session (기본): 로그인 정보를 서버 세션에 저장. 토큰 방식은 TokenSecurityConfig
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @ConditionalOnProperty(name = "auth.mode", havingValue = "session", matchIfMissing = true)
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http
                 .csrf(csrf -> csrf.disable()) // 개발 편의상 일단 끔
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/css/**", "/js/**", "/images/**").permitAll() // 정적파일 허용
-                        .requestMatchers("/", "/login", "/signup", "/signup-process").permitAll() // 누구나 접근 가능
-                        .anyRequest().authenticated() // 나머지는 로그인해야 접근 가능
-                )
-                .formLogin(form -> form
-                        .loginPage("/login")
-                        .loginProcessingUrl("/login-process")
-                        .usernameParameter("email") // ★ 이게 없으면 무조건 실패합니다!
+                .authorizeHttpRequests(auth -> authorize(auth, managementPort))
+                .formLogin(form -> loginForm(form)
                         .defaultSuccessUrl("/", true)      // ★ 로그인 성공하면 메인(/)으로 이동
-                        .permitAll()
                 );
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    // 두 방식 공통 접근 규칙
+    // managementPort: management.server.port (없으면 -1). 그 포트로 들어온 Prometheus 수집만 로그인 없이 허용
+    static void authorize(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth,
+                          int managementPort) {
+        auth
+                .requestMatchers("/css/**", "/js/**", "/images/**").permitAll() // 정적파일 허용
+                .requestMatchers("/", "/login", "/signup", "/signup-process").permitAll() // 누구나 접근 가능
+                .requestMatchers("/actuator/health").permitAll() // 헬스 체크 (상세 정보는 로그인한 경우만)
+                .requestMatchers(prometheusScrape(managementPort)).permitAll() // 내부 관리 포트로만 수집
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // 그 외 메트릭은 관리자만
+                .anyRequest().authenticated(); // 나머지는 로그인해야 접근 가능
+    }
+
+    private static RequestMatcher prometheusScrape(int managementPort) {
+        return request -> managementPort > 0
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
+    static FormLoginConfigurer<HttpSecurity> loginForm(FormLoginConfigurer<HttpSecurity> form) {
+        return form
+                .loginPage("/login")
+                .loginProcessingUrl("/login-process")
+                .usernameParameter("email") // ★ 이게 없으면 무조건 실패합니다!
+                .permitAll();
+    }
+}
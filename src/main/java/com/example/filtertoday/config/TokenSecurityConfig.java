@@ -0,0 +1,110 @@
+package com.example.filtertoday.config;
+
+import com.example.filtertoday.member.security.MemberPrincipal;
+import com.example.filtertoday.member.security.TokenBearerResolver;
+import com.example.filtertoday.member.security.TokenCookies;
+import com.example.filtertoday.member.security.TokenRefreshFilter;
+import com.example.filtertoday.member.security.TokenService;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+// auth.mode=token: 서버 세션 없이 서명된 토큰 쿠키로 로그인 유지 -> 서버를 여러 대로 늘려도 세션 공유가 필요 없음
+// 모든 서버가 같은 auth.token.secret 과 DB(재발급 토큰 저장)를 사용
+@Configuration
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+public class TokenSecurityConfig {
+
+    private static final int MIN_SECRET_BYTES = 32; // HS256 키 최소 길이
+
+    @Bean
+    public SecretKey tokenSigningKey(AuthProperties authProperties) {
+        String secret = authProperties.getToken().getSecret();
+        byte[] bytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes when auth.mode=token");
+        }
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenSigningKey, AuthProperties authProperties) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(tokenSigningKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(authProperties.getToken().getIssuer()));
+        return decoder;
+    }
+
+    @Bean
+    public SecurityFilterChain tokenFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                                TokenService tokenService, TokenCookies tokenCookies,
+                                                @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        http
+                .csrf(csrf -> csrf.disable()) // 쿠키는 SameSite=Lax
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .authorizeHttpRequests(auth -> SecurityConfig.authorize(auth
+                        .requestMatchers("/api/auth/refresh").permitAll(), managementPort))
+                .formLogin(form -> SecurityConfig.loginForm(form)
+                        .successHandler((request, response, authentication) -> {
+                            MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+                            tokenCookies.write(response, tokenService.issue(principal));
+                            response.sendRedirect("/"); // 로그인 성공하면 메인(/)으로 이동
+                        }))
+                .logout(logout -> logout
+                        .addLogoutHandler((request, response, authentication) -> {
+                            tokenService.revoke(tokenCookies.readRefresh(request));
+                            tokenCookies.clear(response);
+                        }))
+                .oauth2ResourceServer(resource -> resource
+                        .bearerTokenResolver(new TokenBearerResolver(tokenCookies))
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                .jwtAuthenticationConverter(token -> {
+                                    MemberPrincipal principal = TokenService.toPrincipal(token);
+                                    return UsernamePasswordAuthenticationToken.authenticated(
+                                            principal, null, principal.getAuthorities());
+                                })))
+                // 페이지는 로그인 화면으로, API 는 401
+                .exceptionHandling(exceptions -> exceptions
+                        .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                PathPatternRequestMatcher.withDefaults().matcher("/api/**"))
+                        .defaultAuthenticationEntryPointFor(new LoginUrlAuthenticationEntryPoint("/login"),
+                                AnyRequestMatcher.INSTANCE))
+                .addFilterBefore(new TokenRefreshFilter(jwtDecoder, tokenService, tokenCookies),
+                        BearerTokenAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.diary.dto.AiResponseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 동시에 들어온 분석 요청을 시간/개수 기준으로 모아 /analyze_batch 한 번으로 보내고 결과를 각 호출자에게 나눠줌
+// 요청: {"contents": ["일기1", "일기2", ...]}  응답: 같은 순서의 [{"emotion": ..., "score": ..., "korean_label": ...}, ...]
+@Component
+public class AiEmotionBatcher {
+
+    private final WebClient aiWebClient;
+    private final AiProperties.Batch properties;
+    private final BlockingQueue<PendingAnalysis> queue = new LinkedBlockingQueue<>();
+    private final Semaphore inFlight;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public AiEmotionBatcher(WebClient aiWebClient, AiProperties aiProperties) {
+        this.aiWebClient = aiWebClient;
+        this.properties = aiProperties.getBatch();
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) return;
+
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name("ai-batch-dispatcher")
+                .daemon()
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher != null) dispatcher.interrupt();
+
+        PendingAnalysis pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("배치 처리기가 종료되었습니다."));
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public CompletableFuture<AiResponseDto> submit(String content) {
+        CompletableFuture<AiResponseDto> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("배치 처리기가 동작 중이 아닙니다."));
+            return future;
+        }
+        queue.add(new PendingAnalysis(content, future));
+        return future;
+    }
+
+    private void dispatchLoop() {
+        List<PendingAnalysis> batch = new ArrayList<>(properties.getMaxSize());
+        while (running) {
+            try {
+                // 1. 첫 요청이 올 때까지 대기
+                batch.add(queue.take());
+
+                // 2. maxWait 동안 또는 maxSize 가 찰 때까지 더 모음
+                long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+                while (batch.size() < properties.getMaxSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+
+                    PendingAnalysis next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                // 3. 이미 나가 있는 배치가 너무 많으면 자리가 날 때까지 대기 (그동안 큐에 계속 쌓임)
+                inFlight.acquire();
+                send(List.copyOf(batch));
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+                return;
+            }
+        }
+    }
+
+    // 응답을 기다리지 않고 보냄 -> 다음 배치는 바로 모으기 시작
+    private void send(List<PendingAnalysis> batch) {
+        List<String> contents = batch.stream().map(PendingAnalysis::content).toList();
+
+        aiWebClient.post()
+                .uri("/analyze_batch")
+                .bodyValue(Map.of("contents", contents))
+                .retrieve()
+                .bodyToFlux(AiResponseDto.class)
+                .collectList()
+                .doFinally(signal -> inFlight.release())
+                .subscribe(
+                        results -> fanOut(batch, results),
+                        error -> batch.forEach(pending -> pending.future().completeExceptionally(error))
+                );
+    }
+
+    private void fanOut(List<PendingAnalysis> batch, List<AiResponseDto> results) {
+        if (results.size() != batch.size()) {
+            IllegalStateException error = new IllegalStateException(
+                    "배치 응답 개수가 요청과 다릅니다. 요청=" + batch.size() + ", 응답=" + results.size());
+            batch.forEach(pending -> pending.future().completeExceptionally(error));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(results.get(i));
+        }
+    }
+
+    private record PendingAnalysis(String content, CompletableFuture<AiResponseDto> future) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.diary.dto.AiResponseDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 파이썬 감정 분석 서버(/analyze) 호출 담당
+// 타임아웃 + 서킷 브레이커(연속 실패 시 한동안 호출 차단) + 벌크헤드(동시 호출 수 제한)로 보호
+// 차단/실패 시에는 내장 사전 분류기(LexiconEmotionClassifier)로 대체
+@Slf4j
+@Component
+public class AiEmotionClient implements EmotionClassifier {
+
+    static final String RESILIENCE_NAME = "aiClassifier";
+
+    private final WebClient aiWebClient;
+    private final AiEmotionBatcher aiEmotionBatcher;
+    private final EmotionResultCache emotionResultCache;
+    private final LexiconEmotionClassifier fallbackClassifier;
+    private final Duration deadline;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public AiEmotionClient(WebClient aiWebClient,
+                           AiProperties aiProperties,
+                           AiEmotionBatcher aiEmotionBatcher,
+                           EmotionResultCache emotionResultCache,
+                           LexiconEmotionClassifier fallbackClassifier,
+                           CircuitBreakerRegistry circuitBreakerRegistry,
+                           BulkheadRegistry bulkheadRegistry,
+                           MeterRegistry meterRegistry) {
+        this.aiWebClient = aiWebClient;
+        this.aiEmotionBatcher = aiEmotionBatcher;
+        this.emotionResultCache = emotionResultCache;
+        this.fallbackClassifier = fallbackClassifier;
+        this.deadline = aiProperties.getTimeout().getDeadline();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_NAME);
+        this.meterRegistry = meterRegistry;
+
+        // 상태 전이(CLOSED -> OPEN -> HALF_OPEN ...)는 로그로도 남김 (게이지는 resilience4j.circuitbreaker.state)
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("AI 서버 서킷 브레이커 상태 변경: {}", event.getStateTransition()));
+    }
+
+    // 같은 내용이면 캐시된 결과를 사용 (미리보기 -> 저장 -> 수정 시 중복 호출 방지)
+    // AI 서버가 느리거나 죽어 있으면 예외 대신 대체 결과를 반환 (대체 결과는 캐시하지 않음)
+    @Override
+    public EmotionResult classify(String content) {
+        try {
+            return emotionResultCache.get(content, () -> callProtected(content));
+        } catch (CallNotPermittedException e) {
+            return fallback(content, "circuit_open", e);
+        } catch (BulkheadFullException e) {
+            return fallback(content, "bulkhead_full", e);
+        } catch (RuntimeException e) {
+            return fallback(content, "error", e);
+        }
+    }
+
+    private EmotionResult callProtected(String content) {
+        Supplier<EmotionResult> call = () -> EmotionResult.from(analyze(content));
+        // 벌크헤드를 바깥에 둬서 자리 부족으로 거절된 호출은 서킷 브레이커 실패율에 포함되지 않게 함
+        Supplier<EmotionResult> protectedCall =
+                Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return protectedCall.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("ai.classifier.latency", "outcome", outcome));
+        }
+    }
+
+    private EmotionResult fallback(String content, String reason, Exception e) {
+        meterRegistry.counter("ai.classifier.fallback", "reason", reason).increment();
+        // KOMORAN 로딩 중(기동 직후)에는 기다리다 실패하지 않고 바로 보통으로
+        if (!fallbackClassifier.isReady()) {
+            log.warn("AI 감정 분석 실패({}), 내장 사전이 아직 준비되지 않아 NORMAL 로 처리합니다: {}", reason, e.toString());
+            return new EmotionResult(EmotionType.NORMAL, 0.0);
+        }
+        log.warn("AI 감정 분석 실패({}), 내장 사전 분류기로 대체합니다: {}", reason, e.toString());
+        return fallbackClassifier.classify(content);
+    }
+
+    // 실패하면 예외를 그대로 던짐 (기본값 처리는 호출하는 쪽에서 결정)
+    public AiResponseDto analyze(String content) {
+        // 배치 모드면 다른 요청들과 묶어서 /analyze_batch 로, 아니면 한 건씩 /analyze 로
+        AiResponseDto response = aiEmotionBatcher.isEnabled()
+                ? aiEmotionBatcher.submit(content).orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS).join()
+                : analyzeSingle(content);
+
+        if (response == null || response.getEmotion() == null) {
+            throw new IllegalStateException("AI 서버 응답이 비어 있습니다.");
+        }
+
+        // 일기 원문은 로그에 남기지 않음 (길이만)
+        log.debug("AI 응답: emotion={}, label={}, score={}, contentLength={}",
+                response.getEmotion(), response.getKorean_label(), response.getScore(), content.length());
+
+        return response;
+    }
+
+    private AiResponseDto analyzeSingle(String content) {
+        // 파이썬 서버(/analyze)로 POST 요청 전송
+        return aiWebClient.post()
+                .uri("/analyze")
+                .bodyValue(Map.of("content", content)) // {"content": "일기내용"} JSON 전송
+                .retrieve()
+                .bodyToMono(AiResponseDto.class) // 응답을 DTO로 변환
+                .timeout(deadline)
+                .block(); // 분석 전용 스레드에서만 기다림
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.filtertoday.diary.classifier;
+
+// 일기 내용 -> 감정 분류기 (AI 서버 / 내장 사전 등 교체 가능)
+public interface EmotionClassifier {
+
+    // 분류할 수 없으면 NORMAL 을 반환하고 예외는 던지지 않음
+    EmotionResult classify(String content);
+}
@@ -0,0 +1,12 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.AiResponseDto;
+
+// 감정 분류 결과 (감정 + 확신도 점수)
+public record EmotionResult(EmotionType emotionType, double score) {
+
+    public static EmotionResult from(AiResponseDto response) {
+        return new EmotionResult(EmotionType.valueOf(response.getEmotion()), response.getScore());
+    }
+}
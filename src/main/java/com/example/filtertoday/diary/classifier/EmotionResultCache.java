@@ -0,0 +1,108 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.diary.entity.EmotionCache;
+import com.example.filtertoday.diary.repository.EmotionCacheRepository;
+import com.example.filtertoday.common.cache.AsyncLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 같은 내용을 여러 번(미리보기 -> 저장 -> 수정) 분류하지 않도록 내용 해시 기준으로 결과를 캐시
+// 1차: 메모리(Caffeine, 개수 제한 + TTL), 2차(선택): emotion_cache 테이블
+@Component
+public class EmotionResultCache {
+
+    private final AiProperties.Cache properties;
+    private final EmotionCacheRepository emotionCacheRepository;
+    private final AsyncCache<String, EmotionResult> cache;
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public EmotionResultCache(AiProperties aiProperties,
+                              EmotionCacheRepository emotionCacheRepository,
+                              MeterRegistry meterRegistry) {
+        this.properties = aiProperties.getCache();
+        this.emotionCacheRepository = emotionCacheRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "emotionResults");
+        this.persistentHits = meterRegistry.counter("emotion.cache.persistent", "result", "hit");
+        this.persistentMisses = meterRegistry.counter("emotion.cache.persistent", "result", "miss");
+    }
+
+    // 캐시에 있으면 바로 반환, 없으면 classifier 로 분류 후 저장 (실패는 캐시하지 않음)
+    public EmotionResult get(String content, Supplier<EmotionResult> classifier) {
+        if (!properties.isEnabled()) return classifier.get();
+
+        String key = hash(content);
+        // 같은 내용을 동시에 분류하면 한 번만 호출 (가상 스레드를 고정하지 않는 방식)
+        return AsyncLoads.getOrLoad(cache, key, () -> findPersisted(key).orElseGet(() -> {
+            EmotionResult result = classifier.get();
+            persist(key, result);
+            return result;
+        }));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private Optional<EmotionResult> findPersisted(String key) {
+        if (!properties.isPersistent()) return Optional.empty();
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getTtl());
+        Optional<EmotionResult> persisted = emotionCacheRepository.findById(key)
+                .filter(entry -> entry.getCreatedAt().isAfter(expiredBefore))
+                .map(entry -> new EmotionResult(entry.getEmotionType(), entry.getScore()));
+
+        (persisted.isPresent() ? persistentHits : persistentMisses).increment();
+        return persisted;
+    }
+
+    private void persist(String key, EmotionResult result) {
+        if (!properties.isPersistent()) return;
+
+        try {
+            emotionCacheRepository.save(EmotionCache.builder()
+                    .contentHash(key)
+                    .emotionType(result.emotionType())
+                    .score(result.score())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드/스레드가 같은 내용을 먼저 저장한 경우 -> 무시
+        }
+    }
+
+    // 공백/유니코드 정규화 후 SHA-256 (띄어쓰기나 줄바꿈만 다른 내용은 같은 키)
+    static String hash(String content) {
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.common.nlp.MorphemeAnalyzer;
+import kr.co.shineware.nlp.komoran.model.Token;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// KOMORAN 형태소 분석 + 감정 사전(emotion/lexicon.tsv) 가중치 합산으로 분류하는 JVM 내장 분류기
+// 네트워크 호출이 없어서 AI 서버 장애 시 대체 분류기로, 또는 비용을 아끼고 싶을 때 기본 분류기로 사용
+@Component
+public class LexiconEmotionClassifier implements EmotionClassifier {
+
+    static final String LEXICON_PATH = "emotion/lexicon.tsv";
+
+    // 이 점수보다 낮으면 근거가 부족하다고 보고 NORMAL
+    private static final double MIN_SCORE = 1.0;
+    // 부정 표현(안 좋다, 좋지 않다)은 반대 방향으로 절반만 반영
+    private static final double NEGATION_WEIGHT = -0.5;
+
+    private static final EmotionType[] EMOTIONS = EmotionType.values();
+
+    private final MorphemeAnalyzer morphemeAnalyzer;
+    // 형태소 -> 감정별 가중치 (EmotionType.ordinal() 인덱스)
+    private final Map<String, double[]> lexicon;
+
+    public LexiconEmotionClassifier(MorphemeAnalyzer morphemeAnalyzer) {
+        this(morphemeAnalyzer, loadLexicon(LEXICON_PATH));
+    }
+
+    LexiconEmotionClassifier(MorphemeAnalyzer morphemeAnalyzer, Map<String, double[]> lexicon) {
+        this.morphemeAnalyzer = morphemeAnalyzer;
+        this.lexicon = lexicon;
+    }
+
+    @Override
+    public EmotionResult classify(String content) {
+        if (content == null || content.isBlank()) return new EmotionResult(EmotionType.NORMAL, 0.0);
+
+        List<Token> tokens = morphemeAnalyzer.analyze(content);
+        double[] scores = new double[EMOTIONS.length];
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (!isContentWord(token.getPos())) continue;
+
+            double[] weights = lexicon.get(token.getMorph());
+            if (weights == null) continue;
+
+            double factor = isNegated(tokens, i) ? NEGATION_WEIGHT : 1.0;
+            for (int e = 0; e < weights.length; e++) {
+                scores[e] += weights[e] * factor;
+            }
+        }
+        return toResult(scores);
+    }
+
+    // 형태소 분석기(KOMORAN) 로딩이 끝났는지. 로딩 전 classify 는 로딩 제한 시간까지 기다림
+    public boolean isReady() {
+        return morphemeAnalyzer.isReady();
+    }
+
+    private EmotionResult toResult(double[] scores) {
+        int best = -1;
+        double positiveSum = 0;
+        for (int e = 0; e < scores.length; e++) {
+            if (scores[e] <= 0) continue;
+            positiveSum += scores[e];
+            if (best < 0 || scores[e] > scores[best]) best = e;
+        }
+
+        if (best < 0 || scores[best] < MIN_SCORE) return new EmotionResult(EmotionType.NORMAL, 0.0);
+        // 점수 = 전체 감정 신호 중 1등 감정이 차지하는 비율
+        return new EmotionResult(EMOTIONS[best], scores[best] / positiveSum);
+    }
+
+    // 명사(NN*), 동사(VV), 형용사(VA), 어근(XR), 감탄사(IC)만 감정 근거로 사용
+    private boolean isContentWord(String pos) {
+        return pos.startsWith("NN") || pos.equals("VV") || pos.equals("VA") || pos.equals("XR") || pos.equals("IC");
+    }
+
+    // 바로 앞의 '안/못' 또는 뒤따르는 '-지 않다/못하다'
+    private boolean isNegated(List<Token> tokens, int index) {
+        if (index > 0) {
+            Token prev = tokens.get(index - 1);
+            if (prev.getPos().equals("MAG") && (prev.getMorph().equals("안") || prev.getMorph().equals("못"))) {
+                return true;
+            }
+        }
+        for (int i = index + 1; i < Math.min(tokens.size(), index + 4); i++) {
+            Token next = tokens.get(i);
+            if (next.getPos().equals("VX") && (next.getMorph().equals("않") || next.getMorph().equals("못하"))) {
+                return true;
+            }
+            if (isContentWord(next.getPos())) break;
+        }
+        return false;
+    }
+
+    static Map<String, double[]> loadLexicon(String path) {
+        Map<String, double[]> lexicon = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(path);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+
+                String[] columns = line.split("\t");
+                if (columns.length != 3) {
+                    throw new IllegalStateException("감정 사전 형식 오류: " + line);
+                }
+                double[] weights = lexicon.computeIfAbsent(columns[0].trim(), k -> new double[EMOTIONS.length]);
+                weights[EmotionType.valueOf(columns[1].trim()).ordinal()] += Double.parseDouble(columns[2].trim());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감정 사전을 읽을 수 없습니다: " + path, e);
+        }
+        return lexicon;
+    }
+}
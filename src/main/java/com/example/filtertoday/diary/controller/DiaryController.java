@@ -1,18 +1,23 @@
 package com.example.filtertoday.diary.controller;
 
+import com.example.filtertoday.analysis.service.AnalysisResponseCache;
+import com.example.filtertoday.analysis.service.MonthVersionService;
 import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.DiaryAnalysisStatusDto;
 import com.example.filtertoday.diary.dto.DiaryRequestDto;
 import com.example.filtertoday.diary.dto.DiaryResponseDto;
+import com.example.filtertoday.diary.dto.KeywordRange;
 import com.example.filtertoday.diary.service.DiaryService;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import com.example.filtertoday.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/diary")
@@ -20,14 +25,17 @@ import java.util.Map;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final MemberService memberService;
+    private final MonthVersionService monthVersionService;
+    private final AnalysisResponseCache responseCache;
 
     // 1. 일기 조회 (GET /api/diary?recordDate=2025-12-06)
     @GetMapping
     public ResponseEntity<DiaryResponseDto> getDiary(
             @RequestParam("recordDate") String dateStr,
-            @AuthenticationPrincipal UserDetails userDetails // 현재 로그인한 사용자 정보
+            @AuthenticationPrincipal MemberPrincipal principal // 현재 로그인한 사용자 정보 (memberId 포함)
     ) {
-        if (userDetails == null) {
+        if (principal == null) {
             return ResponseEntity.status(401).build(); // 로그인 안 했으면 401
         }
 
@@ -36,7 +44,7 @@ public class DiaryController {
 
         // 서비스에서 조회 (없으면 null 반환하거나 예외 처리)
         // 만약 데이터가 없으면 204(No Content)나 비어있는 JSON을 줘야 404 에러가 안 뜹니다.
-        DiaryResponseDto diary = diaryService.getDiaryByDate(userDetails.getUsername(), date);
+        DiaryResponseDto diary = diaryService.getDiaryByDate(principal.getMemberId(), date);
 
         if (diary == null) {
             return ResponseEntity.noContent().build(); // 데이터 없으면 204 반환 (에러 아님)
@@ -45,38 +53,48 @@ public class DiaryController {
     }
 
     // 2. 일기 저장 (POST /api/diary)
+    // AI 분석이 필요한 경우 analysisStatus=PENDING 으로 바로 응답 -> 프론트는 /{id}/analysis 로 확인
     @PostMapping
-    public ResponseEntity<String> saveDiary(
+    public ResponseEntity<DiaryResponseDto> saveDiary(
             @RequestBody DiaryRequestDto requestDto,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        if (userDetails == null) return ResponseEntity.status(401).build();
+        if (principal == null) return ResponseEntity.status(401).build();
 
-        diaryService.saveDiary(userDetails.getUsername(), requestDto);
-        return ResponseEntity.ok("저장되었습니다.");
+        return ResponseEntity.ok(diaryService.saveDiary(principal.getMemberId(), requestDto));
     }
 
     // 3. 일기 수정 (PUT /api/diary/{id})
     @PutMapping("/{id}")
-    public ResponseEntity<String> updateDiary(
+    public ResponseEntity<DiaryResponseDto> updateDiary(
             @PathVariable Long id,
             @RequestBody DiaryRequestDto requestDto,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        diaryService.updateDiary(id, requestDto);
-        return ResponseEntity.ok("수정되었습니다.");
+        return ResponseEntity.ok(diaryService.updateDiary(id, requestDto));
     }
 
     // 4. 일기 삭제 (DELETE /api/diary/{id})
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteDiary(
             @PathVariable Long id,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
         diaryService.deleteDiary(id);
         return ResponseEntity.ok("삭제되었습니다.");
     }
 
+    // 4-1. 비동기 감정 분석 진행 상태 (GET /api/diary/{id}/analysis)
+    @GetMapping("/{id}/analysis")
+    public ResponseEntity<DiaryAnalysisStatusDto> getAnalysisStatus(
+            @PathVariable Long id,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        return ResponseEntity.ok(diaryService.getAnalysisStatus(principal.getMemberId(), id));
+    }
+
     // 5. 감정 분석 요청 (텍스트 -> 감정 결과 반환)
     @PostMapping("/analyze")
     public ResponseEntity<DiaryResponseDto> analyzeDiary(@RequestBody DiaryRequestDto requestDto) {
@@ -92,19 +110,35 @@ public class DiaryController {
         return ResponseEntity.ok(diaryResponseDto);
     }
 
-    //키워드
+    //키워드 (기본: year/month 의 한 달, range=WEEK|MONTH|YEAR|ALL 과 기준 날짜 date 로 기간 지정 가능)
+    // List<KeywordResponseDto>, 기간에 포함된 달의 버전으로 ETag/결과 캐시
     @GetMapping("/analysis/keywords")
-    public ResponseEntity<List<Map<String, Object>>> getKeywords(
-            @RequestParam int year,
-            @RequestParam int month,
-            @AuthenticationPrincipal UserDetails userDetails) {
-
-        return ResponseEntity.ok(diaryService.getTopKeywords(userDetails.getUsername(), year, month));
+    public ResponseEntity<byte[]> getKeywords(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(defaultValue = "MONTH") KeywordRange range,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal MemberPrincipal principal,
+            WebRequest request) {
+
+        LocalDate anchor = date != null ? date
+                : year != null ? LocalDate.of(year, month != null ? month : 1, 1)
+                : LocalDate.now();
+        int boundedLimit = Math.min(Math.max(limit, 1), 100);
+        Long memberId = principal.getMemberId();
+        LocalDate startDate = range.startDate(anchor);
+        LocalDate endDate = range.endDate(anchor);
+
+        return responseCache.respond(request, memberId,
+                "keywords-" + startDate + "-" + endDate + "-" + boundedLimit,
+                () -> monthVersionService.range(memberId, startDate, endDate),
+                () -> diaryService.getTopKeywords(memberId, range, anchor, boundedLimit));
     }
     @GetMapping("/nickname")
-    public ResponseEntity<String> getMyNickname(@AuthenticationPrincipal UserDetails userDetails) {
-        if (userDetails == null) return ResponseEntity.ok("Guest");
-        String nickname = diaryService.getNickname(userDetails.getUsername());
+    public ResponseEntity<String> getMyNickname(@AuthenticationPrincipal MemberPrincipal principal) {
+        if (principal == null) return ResponseEntity.ok("Guest");
+        String nickname = memberService.getNickname(principal.getUsername()); // 회원 캐시에서 조회
         return ResponseEntity.ok(nickname);
     }
 }
@@ -0,0 +1,65 @@
+package com.example.filtertoday.diary.controller;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.DiarySearchResultDto;
+import com.example.filtertoday.diary.dto.SimilarDayDto;
+import com.example.filtertoday.diary.service.ColorSimilarityService;
+import com.example.filtertoday.diary.service.DiarySearchService;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/diary")
+@RequiredArgsConstructor
+public class DiarySearchController {
+
+    private final DiarySearchService diarySearchService;
+    private final ColorSimilarityService colorSimilarityService;
+
+    // 일기 검색 (GET /api/diary/search?q=산책&emotion=JOY&from=2025-01-01&to=2025-12-31&limit=20)
+    // 일치한 키워드가 많은 순 -> 빈도 합 -> 최근 날짜 순
+    @GetMapping("/search")
+    public ResponseEntity<List<DiarySearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) EmotionType emotion,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        int boundedLimit = Math.min(Math.max(limit, 1), 50);
+        return ResponseEntity.ok(diarySearchService.search(principal.getMemberId(), query, emotion,
+                from, to, boundedLimit));
+    }
+
+    // 색이 비슷한 날 (GET /api/diary/similar?color=%23FFA500&k=10 또는 ?date=2025-01-05&k=10)
+    // date 를 주면 그날 일기 색 기준 (그날은 결과에서 제외)
+    @GetMapping("/similar")
+    public ResponseEntity<List<SimilarDayDto>> similar(
+            @RequestParam(required = false) String color,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "10") int k,
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        int boundedK = Math.min(Math.max(k, 1), 50);
+        if (date != null) {
+            return ResponseEntity.ok(colorSimilarityService.similarToDay(principal.getMemberId(), date, boundedK));
+        }
+        if (!ColorSimilarityService.isValidColor(color)) {
+            return ResponseEntity.badRequest().build(); // color 또는 date 중 하나는 필요
+        }
+        return ResponseEntity.ok(colorSimilarityService.similarToColor(principal.getMemberId(), color, boundedK));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.filtertoday.diary.controller;
+
+import com.example.filtertoday.diary.dto.DiaryImportResultDto;
+import com.example.filtertoday.diary.dto.TransferFormat;
+import com.example.filtertoday.diary.service.DiaryImportException;
+import com.example.filtertoday.diary.service.DiaryTransferService;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/diary")
+@RequiredArgsConstructor
+public class DiaryTransferController {
+
+    private final DiaryTransferService diaryTransferService;
+
+    // 일괄 가져오기 (POST /api/diary/import?format=NDJSON|CSV, 본문에 파일 내용 그대로)
+    // 같은 날짜 일기는 덮어쓰고, 색을 고르지 않은 일기는 AI 분석 대기열로
+    @PostMapping("/import")
+    public ResponseEntity<DiaryImportResultDto> importDiaries(
+            @RequestParam(defaultValue = "NDJSON") TransferFormat format,
+            InputStream body,
+            @AuthenticationPrincipal MemberPrincipal principal) throws IOException {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        try {
+            return ResponseEntity.ok(diaryTransferService.importDiaries(principal.getMemberId(), format, body));
+        } catch (DiaryImportException e) {
+            // 파일 구조 오류: 멈춘 위치와 그 전까지 저장된 수를 알려줌 (고쳐서 다시 올리면 같은 날짜는 덮어씀)
+            return ResponseEntity.badRequest().body(e.getResult());
+        }
+    }
+
+    // 전체 내보내기 (GET /api/diary/export?format=NDJSON|CSV) - 파일로 다운로드
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDiaries(
+            @RequestParam(defaultValue = "NDJSON") TransferFormat format,
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        Long memberId = principal.getMemberId();
+        String fileName = "filter-today-" + LocalDate.now() + "." + format.getExtension();
+        StreamingResponseBody body = out -> diaryTransferService.exportDiaries(memberId, format, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+}
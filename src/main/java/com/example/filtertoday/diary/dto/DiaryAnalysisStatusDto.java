@@ -0,0 +1,24 @@
+package com.example.filtertoday.diary.dto;
+
+import com.example.filtertoday.diary.entity.Diary;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 비동기 감정 분석 진행 상태 (diary.js 폴링용)
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryAnalysisStatusDto {
+    private Long diaryId;
+    private String analysisStatus; // PENDING, COMPLETED, FAILED
+    private String emotionType;
+    private String hexCode;
+
+    public DiaryAnalysisStatusDto(Diary diary) {
+        this.diaryId = diary.getId();
+        this.analysisStatus = diary.getAnalysisStatus().name();
+        this.emotionType = diary.getEmotionType().name();
+        this.hexCode = diary.getHexCode();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.filtertoday.diary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryImportResultDto {
+    private int imported;        // 저장(같은 날짜는 덮어씀)된 일기 수
+    private int pendingAnalysis; // 색을 고르지 않아 분석 대기(PENDING)로 저장한 수 (순서대로 분석)
+    private int skipped;         // 형식 오류로 건너뛴 줄 수
+    private List<String> errors; // 건너뛴 줄 번호와 이유 (앞의 일부만)
+    private Integer abortedAt;   // 파일 구조 오류로 멈춘 줄(레코드) 번호, 끝까지 읽었으면 null (imported 는 그 전까지 커밋된 수)
+}
@@ -16,6 +16,7 @@ public class DiaryResponseDto {
     private String content;
     private String hexCode;
     private String emotionType; // Enum을 문자열로 변환해서 전달
+    private String analysisStatus; // PENDING 이면 AI 분석 진행 중
 
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate recordDate;
@@ -26,6 +27,7 @@ public class DiaryResponseDto {
         this.content = diary.getContent();
         this.hexCode = diary.getHexCode();
         this.emotionType = diary.getEmotionType().name(); // 예: "HAPPY"
+        this.analysisStatus = diary.getAnalysisStatus().name();
         this.recordDate = diary.getRecordDate();
     }
 }
\ No newline at end of file
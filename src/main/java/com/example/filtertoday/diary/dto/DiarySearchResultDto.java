@@ -0,0 +1,23 @@
+package com.example.filtertoday.diary.dto;
+
+import com.example.filtertoday.common.EmotionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+// 일기 검색 결과 (순위순). 날짜를 누르면 GET /api/diary?recordDate= 로 전체 본문 조회
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiarySearchResultDto {
+    private LocalDate recordDate;
+    private EmotionType emotionType;
+    private String hexCode;
+    private String snippet;   // 처음 일치한 단어 앞뒤 일부
+    private int matchedTerms; // 검색어 키워드 중 이 일기에 나온 수
+    private long score;       // 일치한 키워드들의 빈도 합
+}
@@ -0,0 +1,32 @@
+package com.example.filtertoday.diary.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// 키워드 집계 기간 (기준 날짜가 속한 주/월/연도, 또는 전체)
+public enum KeywordRange {
+    WEEK, MONTH, YEAR, ALL;
+
+    // MySQL DATE 범위 안의 '전체 기간'
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    public LocalDate startDate(LocalDate anchor) {
+        return switch (this) {
+            case WEEK -> anchor.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> anchor.withDayOfMonth(1);
+            case YEAR -> anchor.withDayOfYear(1);
+            case ALL -> MIN_DATE;
+        };
+    }
+
+    public LocalDate endDate(LocalDate anchor) {
+        return switch (this) {
+            case WEEK -> anchor.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> anchor.with(TemporalAdjusters.lastDayOfMonth());
+            case YEAR -> anchor.with(TemporalAdjusters.lastDayOfYear());
+            case ALL -> MAX_DATE;
+        };
+    }
+}
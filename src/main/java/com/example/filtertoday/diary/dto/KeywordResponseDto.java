@@ -0,0 +1,16 @@
+package com.example.filtertoday.diary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 워드 클라우드용 키워드 (dashboard.js 가 text, weight 로 사용)
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordResponseDto {
+    private String text;
+    private long weight;
+}
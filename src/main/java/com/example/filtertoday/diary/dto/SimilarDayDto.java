@@ -0,0 +1,19 @@
+package com.example.filtertoday.diary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+// "이런 기분이었던 날": 기준 색과 가까운 날 (가까운 순)
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarDayDto {
+    private LocalDate recordDate;
+    private String hexCode;
+    private double distance; // CIELAB 색차(ΔE), 2 이하는 눈으로 거의 구분 안 됨
+}
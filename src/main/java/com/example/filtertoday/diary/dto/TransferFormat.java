@@ -0,0 +1,18 @@
+package com.example.filtertoday.diary.dto;
+
+import lombok.Getter;
+
+// 일기 가져오기/내보내기 파일 형식
+@Getter
+public enum TransferFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 일기 하나(JSON)
+    CSV("text/csv", "csv");                   // 첫 줄은 헤더 (recordDate,content,hexCode,...)
+
+    private final String contentType;
+    private final String extension;
+
+    TransferFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
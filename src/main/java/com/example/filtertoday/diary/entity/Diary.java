@@ -1,5 +1,6 @@
 package com.example.filtertoday.diary.entity;
 
+import com.example.filtertoday.common.AnalysisStatus;
 import com.example.filtertoday.common.EmotionType;
 import com.example.filtertoday.member.entity.Member;
 import jakarta.persistence.*;
@@ -10,9 +11,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// 회원당 하루 한 편: (member_id, record_date) 유니크 키가 회원+날짜 조회/기간 조회 인덱스 역할도 함
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_diary_member_date", columnNames = {"member_id", "record_date"}),
+        indexes = @Index(name = "idx_diary_analysis_status", columnList = "analysis_status"))
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -40,6 +44,12 @@ public class Diary {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // AI 감정 분석 진행 상태 (기존 데이터는 null -> 완료로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private AnalysisStatus analysisStatus = AnalysisStatus.COMPLETED;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -51,5 +61,29 @@ public class Diary {
         if (emotionType != null) {
             this.emotionType = emotionType;
         }
+        this.analysisStatus = AnalysisStatus.COMPLETED;
+    }
+
+    // 내용만 먼저 반영하고 감정은 AI 분석 대기 상태로 둠
+    public void updatePendingAnalysis(String content) {
+        this.content = content;
+        this.hexCode = EmotionType.NORMAL.getRepresentativeHexCode();
+        this.emotionType = EmotionType.NORMAL;
+        this.analysisStatus = AnalysisStatus.PENDING;
+    }
+
+    // 비동기 분석 결과 반영
+    public void completeAnalysis(EmotionType emotionType) {
+        this.emotionType = emotionType;
+        this.hexCode = emotionType.getRepresentativeHexCode();
+        this.analysisStatus = AnalysisStatus.COMPLETED;
+    }
+
+    public void failAnalysis() {
+        this.analysisStatus = AnalysisStatus.FAILED;
+    }
+
+    public AnalysisStatus getAnalysisStatus() {
+        return analysisStatus != null ? analysisStatus : AnalysisStatus.COMPLETED;
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.example.filtertoday.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 일기별 키워드 빈도 (저장/수정 시 한 번만 계산해 두고, 월별 키워드는 이 테이블을 합산)
+// 회원/날짜는 조인 없이 기간 합산을 하기 위해 중복 저장
+// (member_id, term, record_date) 인덱스가 검색용 역색인: 검색어 하나당 그 단어가 나온 일기만 읽음
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_diary_keyword_member_date", columnList = "member_id, record_date"),
+        @Index(name = "idx_diary_keyword_member_term", columnList = "member_id, term, record_date"),
+        @Index(name = "idx_diary_keyword_diary", columnList = "diary_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "diary_keyword_id")
+    private Long id;
+
+    @Column(name = "diary_id", nullable = false)
+    private Long diaryId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDate recordDate;
+
+    @Column(nullable = false, length = 50)
+    private String term;
+
+    @Column(nullable = false)
+    private int frequency;
+}
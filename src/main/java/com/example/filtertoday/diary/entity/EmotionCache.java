@@ -0,0 +1,29 @@
+package com.example.filtertoday.diary.entity;
+
+import com.example.filtertoday.common.EmotionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 일기 내용 해시 -> AI 감정 분류 결과 (재시작 후에도 캐시 유지용)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmotionCache {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash; // 정규화한 내용의 SHA-256 (hex)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmotionType emotionType;
+
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
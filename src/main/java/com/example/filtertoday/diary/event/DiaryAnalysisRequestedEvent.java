@@ -0,0 +1,5 @@
+package com.example.filtertoday.diary.event;
+
+// 일기 저장(커밋) 후 AI 감정 분석을 요청하는 이벤트
+public record DiaryAnalysisRequestedEvent(Long diaryId, String content) {
+}
@@ -0,0 +1,7 @@
+package com.example.filtertoday.diary.event;
+
+import java.time.LocalDate;
+
+// 일기 저장/수정/삭제/분석 완료로 그 달의 분석 결과(톤 맵, 통계, 키워드)가 바뀌었음을 알림
+public record DiaryChangedEvent(Long memberId, LocalDate recordDate) {
+}
@@ -0,0 +1,10 @@
+package com.example.filtertoday.diary.repository;
+
+import java.time.LocalDate;
+
+// 날짜별 색 (색 유사도 색인)
+public interface DiaryColorView {
+    LocalDate getRecordDate();
+
+    String getHexCode();
+}
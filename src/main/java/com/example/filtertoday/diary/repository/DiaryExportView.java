@@ -0,0 +1,19 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.common.AnalysisStatus;
+import com.example.filtertoday.common.EmotionType;
+
+import java.time.LocalDate;
+
+// 내보내기 한 줄 (엔티티 대신 필요한 컬럼만)
+public interface DiaryExportView {
+    LocalDate getRecordDate();
+
+    String getContent();
+
+    String getHexCode();
+
+    EmotionType getEmotionType();
+
+    AnalysisStatus getAnalysisStatus();
+}
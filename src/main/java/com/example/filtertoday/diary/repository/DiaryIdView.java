@@ -0,0 +1,10 @@
+package com.example.filtertoday.diary.repository;
+
+import java.time.LocalDate;
+
+// 날짜별 일기 id (일괄 저장 후 id 확인용)
+public interface DiaryIdView {
+    Long getId();
+
+    LocalDate getRecordDate();
+}
@@ -0,0 +1,49 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.entity.DiaryKeyword;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface DiaryKeywordRepository extends JpaRepository<DiaryKeyword, Long> {
+
+    // 특정인의 특정기간 키워드 빈도 합산 (정렬 없이 흘려보내고 상위 K개는 서비스에서 선택)
+    @Query("select k.term as term, sum(k.frequency) as weight from DiaryKeyword k " +
+            "where k.memberId = :memberId and k.recordDate between :startDate and :endDate " +
+            "group by k.term")
+    Stream<KeywordCountView> streamKeywordCounts(@Param("memberId") Long memberId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    // 검색: 검색어 키워드가 나온 일기별로 (일치한 키워드 수, 빈도 합) 순위
+    // (member_id, term, record_date) 인덱스로 해당 키워드의 행만 읽고, 감정 조건은 일기 PK 로 확인
+    @Query("select k.diaryId as diaryId, k.recordDate as recordDate, " +
+            "count(k.term) as matchedTerms, sum(k.frequency) as score from DiaryKeyword k " +
+            "where k.memberId = :memberId and k.term in :terms " +
+            "and k.recordDate between :startDate and :endDate " +
+            "and exists (select 1 from Diary d where d.id = k.diaryId and d.emotionType in :emotionTypes) " +
+            "group by k.diaryId, k.recordDate " +
+            "order by count(k.term) desc, sum(k.frequency) desc, k.recordDate desc")
+    List<DiarySearchHitView> search(@Param("memberId") Long memberId,
+                                    @Param("terms") Collection<String> terms,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate,
+                                    @Param("emotionTypes") Collection<EmotionType> emotionTypes,
+                                    Limit limit);
+
+    @Modifying
+    @Query("delete from DiaryKeyword k where k.diaryId = :diaryId")
+    void deleteByDiaryId(@Param("diaryId") Long diaryId);
+
+    @Modifying
+    @Query("delete from DiaryKeyword k where k.diaryId in :diaryIds")
+    void deleteByDiaryIdIn(@Param("diaryIds") Collection<Long> diaryIds);
+}
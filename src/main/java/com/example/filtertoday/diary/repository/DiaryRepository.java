@@ -1,17 +1,86 @@
 package com.example.filtertoday.diary.repository;
 
+import com.example.filtertoday.common.AnalysisStatus;
 import com.example.filtertoday.diary.entity.Diary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
     //특정인의 특정기간 일기
     List<Diary> findByMemberIdAndRecordDateBetween(Long memberId, LocalDate startDate, LocalDate endDate);
 
+    // 톤 맵용: 엔티티/본문 없이 필요한 컬럼만 날짜순으로
+    @Query("select d.recordDate as recordDate, d.hexCode as hexCode, d.emotionType as emotionType from Diary d " +
+            "where d.member.id = :memberId and d.recordDate between :startDate and :endDate " +
+            "order by d.recordDate")
+    List<ToneMapView> findToneMap(@Param("memberId") Long memberId,
+                                  @Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    // 추이 분석용: findToneMap 과 같은 컬럼을 목록으로 쌓지 않고 날짜순으로 흘려보냄 (여러 해 범위)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select d.recordDate as recordDate, d.hexCode as hexCode, d.emotionType as emotionType from Diary d " +
+            "where d.member.id = :memberId and d.recordDate between :startDate and :endDate " +
+            "order by d.recordDate")
+    Stream<ToneMapView> streamToneMap(@Param("memberId") Long memberId,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    @Query("select d.id from Diary d where d.member.id = :memberId and d.recordDate = :recordDate")
+    Optional<Long> findIdByMemberIdAndRecordDate(@Param("memberId") Long memberId,
+                                                 @Param("recordDate") LocalDate recordDate);
+
+    Optional<Diary> findByMemberIdAndRecordDate(Long memberId, LocalDate recordDate);
+
     Optional<Diary> findByMemberEmailAndRecordDate(String email, LocalDate recordDate);
 
     List<Diary> findByMemberEmailAndRecordDateBetween(String email, LocalDate of, LocalDate localDate);
+
+    // 내보내기: 날짜순으로 한 줄씩 흘려보냄 (MySQL 은 fetch size 가 Integer.MIN_VALUE 면 결과를 서버에서 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select d.recordDate as recordDate, d.content as content, d.hexCode as hexCode, " +
+            "d.emotionType as emotionType, d.analysisStatus as analysisStatus from Diary d " +
+            "where d.member.id = :memberId order by d.recordDate")
+    Stream<DiaryExportView> streamForExport(@Param("memberId") Long memberId);
+
+    // 일괄 저장 후 날짜별 id 확인
+    @Query("select d.id as id, d.recordDate as recordDate from Diary d " +
+            "where d.member.id = :memberId and d.recordDate in :dates")
+    List<DiaryIdView> findIdsByRecordDates(@Param("memberId") Long memberId,
+                                          @Param("dates") Collection<LocalDate> dates);
+
+    // 재색인용: id 순으로 끊어서 조회
+    List<Diary> findTop200ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 색 유사도 색인용 (회원의 모든 날짜와 색만)
+    @Query("select d.recordDate as recordDate, d.hexCode as hexCode from Diary d where d.member.id = :memberId")
+    List<DiaryColorView> findColors(@Param("memberId") Long memberId);
+
+    @Query("select d.recordDate as recordDate, d.hexCode as hexCode from Diary d " +
+            "where d.member.id = :memberId and d.recordDate between :startDate and :endDate")
+    List<DiaryColorView> findColors(@Param("memberId") Long memberId,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    // 검색 결과 일기의 본문/색 (스니펫용, 결과 개수만큼만)
+    @Query("select d.id as id, d.content as content, d.hexCode as hexCode, d.emotionType as emotionType " +
+            "from Diary d where d.member.id = :memberId and d.id in :ids")
+    List<DiarySearchSourceView> findSearchSources(@Param("memberId") Long memberId,
+                                                  @Param("ids") Collection<Long> ids);
+
+    // 분석 대기로 남은 일기 (오래된 것부터, idx_diary_analysis_status)
+    @Query("select d.id as id, d.content as content from Diary d " +
+            "where d.analysisStatus = :status order by d.id")
+    List<PendingAnalysisView> findByAnalysisStatus(@Param("status") AnalysisStatus status, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.example.filtertoday.diary.repository;
+
+import java.time.LocalDate;
+
+// 검색 결과 한 건 (일치한 키워드 수, 키워드 빈도 합)
+public interface DiarySearchHitView {
+    Long getDiaryId();
+
+    LocalDate getRecordDate();
+
+    Long getMatchedTerms();
+
+    Long getScore();
+}
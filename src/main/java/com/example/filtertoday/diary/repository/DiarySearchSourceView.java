@@ -0,0 +1,14 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.common.EmotionType;
+
+// 검색 결과 스니펫을 만들 본문과 색
+public interface DiarySearchSourceView {
+    Long getId();
+
+    String getContent();
+
+    String getHexCode();
+
+    EmotionType getEmotionType();
+}
@@ -0,0 +1,7 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.diary.entity.EmotionCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmotionCacheRepository extends JpaRepository<EmotionCache, String> {
+}
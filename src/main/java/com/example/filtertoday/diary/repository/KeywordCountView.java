@@ -0,0 +1,8 @@
+package com.example.filtertoday.diary.repository;
+
+// 기간별 키워드 합산 결과 (term, 빈도 합)
+public interface KeywordCountView {
+    String getTerm();
+
+    Long getWeight();
+}
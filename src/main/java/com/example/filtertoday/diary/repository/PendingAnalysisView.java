@@ -0,0 +1,8 @@
+package com.example.filtertoday.diary.repository;
+
+// 분석 대기(PENDING) 일기의 id 와 본문 (재요청용)
+public interface PendingAnalysisView {
+    Long getId();
+
+    String getContent();
+}
@@ -0,0 +1,14 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.common.EmotionType;
+
+import java.time.LocalDate;
+
+// 톤 맵 한 칸 (본문 없이 날짜/색/감정만)
+public interface ToneMapView {
+    LocalDate getRecordDate();
+
+    String getHexCode();
+
+    EmotionType getEmotionType();
+}
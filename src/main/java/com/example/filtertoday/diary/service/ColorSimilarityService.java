@@ -0,0 +1,142 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.analysis.service.MonthVersionService;
+import com.example.filtertoday.common.cache.AsyncLoads;
+import com.example.filtertoday.common.color.LabGrid;
+import com.example.filtertoday.diary.dto.SimilarDayDto;
+import com.example.filtertoday.diary.event.DiaryChangedEvent;
+import com.example.filtertoday.diary.repository.DiaryColorView;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// 색이 비슷한 날 찾기: 회원별 Lab 격자 색인(LabGrid)을 메모리에 두고 조회
+// 처음 조회할 때 그 회원의 날짜/색만 한 번 읽어 만들고, 이후에는 일기가 바뀐 달만 다시 읽어 반영
+// 색인마다 만들 때의 회원 데이터 버전(MonthVersionService)을 함께 두고, 조회 때 DB 버전과 다르면 새로 만듦
+// (다른 서버에서 바뀐 일기는 이 서버의 이벤트로 오지 않으므로)
+@Service
+public class ColorSimilarityService {
+
+    private static final int MAX_MEMBERS = 1_000;
+    private static final Duration IDLE_TTL = Duration.ofMinutes(30);
+
+    private final DiaryRepository diaryRepository;
+    private final MonthVersionService monthVersionService;
+    private final AsyncCache<Long, VersionedGrid> grids;
+
+    public ColorSimilarityService(DiaryRepository diaryRepository, MonthVersionService monthVersionService) {
+        this.diaryRepository = diaryRepository;
+        this.monthVersionService = monthVersionService;
+        this.grids = Caffeine.newBuilder()
+                .maximumSize(MAX_MEMBERS)
+                .expireAfterAccess(IDLE_TTL)
+                .buildAsync();
+    }
+
+    // 기준 색(#RRGGBB)과 가까운 날 k개
+    @Transactional(readOnly = true)
+    public List<SimilarDayDto> similarToColor(Long memberId, String hexCode, int k) {
+        int rgb = parseRgb(hexCode);
+        if (rgb < 0) throw new IllegalArgumentException("색상 코드는 #RRGGBB 형식이어야 합니다.");
+
+        return toDtos(grid(memberId).nearest(rgb, k, null));
+    }
+
+    public static boolean isValidColor(String hexCode) {
+        return parseRgb(hexCode) >= 0;
+    }
+
+    // 그날 일기 색과 가까운 다른 날 k개 (그날 일기가 없으면 빈 목록)
+    @Transactional(readOnly = true)
+    public List<SimilarDayDto> similarToDay(Long memberId, LocalDate recordDate, int k) {
+        LabGrid<LocalDate> grid = grid(memberId);
+        int rgb = grid.rgbOf(recordDate);
+        if (rgb < 0) return List.of();
+
+        return toDtos(grid.nearest(rgb, k, recordDate));
+    }
+
+    // 호출하는 조회의 읽기 트랜잭션 안에서 버전과 색을 함께 읽음 (복제본이 뒤처져도 둘이 어긋나지 않음)
+    private LabGrid<LocalDate> grid(Long memberId) {
+        long version = monthVersionService.member(memberId);
+        VersionedGrid cached = AsyncLoads.getOrLoad(grids, memberId, () -> load(memberId, version));
+        if (cached.version == version) return cached.grid;
+
+        // 다른 서버에서 바뀌었거나 이 서버의 반영이 아직 끝나지 않음 -> 새로 만들어 교체
+        VersionedGrid fresh = load(memberId, version);
+        grids.put(memberId, CompletableFuture.completedFuture(fresh));
+        return fresh.grid;
+    }
+
+    private VersionedGrid load(Long memberId, long version) {
+        LabGrid<LocalDate> grid = new LabGrid<>(Comparator.<LocalDate>reverseOrder()); // 같은 거리면 최근 날짜 먼저
+        for (DiaryColorView day : diaryRepository.findColors(memberId)) {
+            grid.put(day.getRecordDate(), day.getHexCode());
+        }
+        return new VersionedGrid(grid, version);
+    }
+
+    // 커밋된 뒤 바뀐 달(가져오기는 달 단위로 알림)의 색을 다시 읽어 반영. 아직 색인이 없는 회원은 무시
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        CompletableFuture<VersionedGrid> cached = grids.getIfPresent(event.memberId());
+        if (cached == null) return;
+        if (!cached.isDone() || cached.isCompletedExceptionally()) {
+            // 만드는 중이면 변경 전 데이터를 읽었을 수 있으므로 버리고 다음 조회 때 새로 만듦
+            grids.synchronous().invalidate(event.memberId());
+            return;
+        }
+
+        // 버전을 먼저 읽음: 그 사이 다른 달이 바뀌었다면 버전이 어긋나 다음 조회 때 새로 만듦
+        long version = monthVersionService.member(event.memberId());
+        VersionedGrid entry = cached.join();
+        LabGrid<LocalDate> grid = entry.grid;
+        YearMonth month = YearMonth.from(event.recordDate());
+        Set<LocalDate> present = new HashSet<>();
+        for (DiaryColorView day : diaryRepository.findColors(event.memberId(), month.atDay(1), month.atEndOfMonth())) {
+            grid.put(day.getRecordDate(), day.getHexCode());
+            present.add(day.getRecordDate());
+        }
+        // 삭제된 날
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            if (!present.contains(date)) grid.remove(date);
+        }
+        entry.version = version;
+    }
+
+    // 반영하면서 버전만 바뀜 (색인은 그 자리에서 수정)
+    private static final class VersionedGrid {
+        private final LabGrid<LocalDate> grid;
+        private volatile long version;
+
+        private VersionedGrid(LabGrid<LocalDate> grid, long version) {
+            this.grid = grid;
+            this.version = version;
+        }
+    }
+
+    private static List<SimilarDayDto> toDtos(List<LabGrid.Neighbor<LocalDate>> neighbors) {
+        return neighbors.stream()
+                .map(neighbor -> new SimilarDayDto(neighbor.key(), neighbor.hexCode(),
+                        Math.round(neighbor.distance() * 100) / 100.0))
+                .toList();
+    }
+
+    private static int parseRgb(String hexCode) {
+        if (hexCode == null || !hexCode.matches("#?[0-9a-fA-F]{6}")) return -1;
+        return Integer.parseInt(hexCode.substring(hexCode.length() - 6), 16);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.diary.dto.DiaryImportResultDto;
+import lombok.Getter;
+
+// 가져오기 파일 구조 오류로 중간에 멈춤 (result.abortedAt: 멈춘 위치, result.imported: 그 전까지 커밋된 수)
+@Getter
+public class DiaryImportException extends RuntimeException {
+
+    private final DiaryImportResultDto result;
+
+    public DiaryImportException(DiaryImportResultDto result) {
+        super("가져오기 중단: " + result.getAbortedAt() + "번째 줄");
+        this.result = result;
+    }
+}
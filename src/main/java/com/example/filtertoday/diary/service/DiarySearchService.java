@@ -0,0 +1,90 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.DiarySearchResultDto;
+import com.example.filtertoday.diary.repository.DiaryKeywordRepository;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.repository.DiarySearchHitView;
+import com.example.filtertoday.diary.repository.DiarySearchSourceView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 일기 검색: 검색어를 색인과 같은 규칙(KOMORAN 명사/동사/형용사)으로 나눠 diary_keyword 역색인에서 찾음
+// 본문 LIKE 검색과 달리 읽는 행 수가 일기 수가 아니라 검색어 키워드가 나온 횟수에 비례
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DiarySearchService {
+
+    // 기간을 안 주면 전체 (MySQL DATE 범위)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final int SNIPPET_RADIUS = 40;
+
+    private final KeywordExtractor keywordExtractor;
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final DiaryRepository diaryRepository;
+
+    public List<DiarySearchResultDto> search(Long memberId, String query, EmotionType emotionType,
+                                             LocalDate startDate, LocalDate endDate, int limit) {
+        if (query == null || query.isBlank()) return List.of();
+
+        // 키워드 -> 본문에서 찾을 형태소 (동사/형용사는 '다'를 붙이기 전 어간)
+        Map<String, String> terms = keywordExtractor.extractTerms(query);
+        if (terms.isEmpty()) return List.of();
+
+        // 감정 조건이 없으면 모든 감정 (조건 유무와 관계없이 같은 쿼리 하나)
+        List<DiarySearchHitView> hits = diaryKeywordRepository.search(memberId, terms.keySet(),
+                startDate != null ? startDate : MIN_DATE, endDate != null ? endDate : MAX_DATE,
+                emotionType != null ? EnumSet.of(emotionType) : EnumSet.allOf(EmotionType.class),
+                Limit.of(limit));
+        if (hits.isEmpty()) return List.of();
+
+        Map<Long, DiarySearchSourceView> sources = diaryRepository
+                .findSearchSources(memberId, hits.stream().map(DiarySearchHitView::getDiaryId).toList())
+                .stream()
+                .collect(Collectors.toMap(DiarySearchSourceView::getId, Function.identity()));
+
+        // 순위는 검색 쿼리 순서 그대로
+        return hits.stream()
+                .filter(hit -> sources.containsKey(hit.getDiaryId()))
+                .map(hit -> {
+                    DiarySearchSourceView source = sources.get(hit.getDiaryId());
+                    return new DiarySearchResultDto(hit.getRecordDate(), source.getEmotionType(), source.getHexCode(),
+                            snippet(source.getContent(), terms.values()),
+                            hit.getMatchedTerms().intValue(), hit.getScore());
+                })
+                .toList();
+    }
+
+    // 가장 먼저 나온 검색 단어 앞뒤 SNIPPET_RADIUS 자 (없으면 앞부분)
+    static String snippet(String content, Collection<String> morphs) {
+        if (content == null) return "";
+
+        int first = -1;
+        int length = 0;
+        for (String morph : morphs) {
+            int index = content.indexOf(morph);
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+                length = morph.length();
+            }
+        }
+        if (first < 0) first = 0;
+
+        int start = Math.max(0, first - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), first + length + SNIPPET_RADIUS);
+        String snippet = content.substring(start, end).replaceAll("\\s+", " ").trim();
+        return (start > 0 ? "…" : "") + snippet + (end < content.length() ? "…" : "");
+    }
+}
@@ -1,258 +1,251 @@
 package com.example.filtertoday.diary.service;
 
+import com.example.filtertoday.analysis.service.EmotionStatService;
+import com.example.filtertoday.common.AnalysisStatus;
 import com.example.filtertoday.common.EmotionType;
-import com.example.filtertoday.diary.dto.AiResponseDto;
+import com.example.filtertoday.common.color.EmotionColorClassifier;
+import com.example.filtertoday.diary.classifier.EmotionClassifier;
+import com.example.filtertoday.diary.dto.DiaryAnalysisStatusDto;
+import com.example.filtertoday.diary.dto.KeywordRange;
+import com.example.filtertoday.diary.dto.KeywordResponseDto;
 import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.event.DiaryAnalysisRequestedEvent;
+import com.example.filtertoday.diary.event.DiaryChangedEvent;
 import com.example.filtertoday.diary.repository.DiaryRepository;
 import com.example.filtertoday.diary.dto.DiaryRequestDto;
 import com.example.filtertoday.diary.dto.DiaryResponseDto;
-import com.example.filtertoday.member.entity.Member;
-import com.example.filtertoday.member.repository.MemberRepository;
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
-import kr.co.shineware.nlp.komoran.core.Komoran;
-import kr.co.shineware.nlp.komoran.model.KomoranResult;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DiaryService {
 
+    // LAST_INSERT_ID(diary_id): 기존 행을 UPDATE 한 경우에도 그 행의 id 를 생성 키로 돌려받기 위함
+    static final String UPSERT_SQL =
+            "INSERT INTO diary (member_id, record_date, content, hex_code, emotion_type, analysis_status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE diary_id = LAST_INSERT_ID(diary_id), content = VALUES(content), " +
+            "hex_code = VALUES(hex_code), emotion_type = VALUES(emotion_type), analysis_status = VALUES(analysis_status)";
+
     private final DiaryRepository diaryRepository;
-    private final MemberRepository memberRepository;
-    private final Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
-    private final WebClient webClient = WebClient.create("http://localhost:8000");
+    private final EmotionClassifier emotionClassifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KeywordIndexService keywordIndexService;
+    private final EmotionStatService emotionStatService;
+    private final JdbcTemplate jdbcTemplate;
+    private final EmotionColorClassifier emotionColorClassifier;
+    private final MeterRegistry meterRegistry;
 
     // 1. 일기 조회 (날짜 기준)
-    public DiaryResponseDto getDiaryByDate(String email, LocalDate date) {
-        return diaryRepository.findByMemberEmailAndRecordDate(email, date)
+    public DiaryResponseDto getDiaryByDate(Long memberId, LocalDate date) {
+        return diaryRepository.findByMemberIdAndRecordDate(memberId, date)
                 .map(DiaryResponseDto::new) // 있으면 DTO로 변환
                 .orElse(null);              // 없으면 null 반환
     }
 
-    // 2. 일기 저장
+    // 2. 일기 저장 (같은 날짜 일기가 있으면 덮어씀)
+    // (member_id, record_date) 유니크 키에 upsert 한 문장 -> 여러 탭에서 동시에 저장해도 중복 없이 마지막 저장이 남음
+    // 같은 달을 동시에 다시 집계하다 교착 상태로 밀려난 쪽은 트랜잭션째 다시 실행 (resilience4j.retry.instances.diarySave)
+    @Retry(name = "diarySave")
     @Transactional
-    public void saveDiary(String email, DiaryRequestDto dto) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("회원을 찾을 수 없습니다."));
-
-        Optional<Diary> existingDiary = diaryRepository.findByMemberEmailAndRecordDate(email, dto.getRecordDate());
+    @Observed(name = "diary.save", contextualName = "save-diary")
+    public DiaryResponseDto saveDiary(Long memberId, DiaryRequestDto dto) {
+        Diary diary = toDiary(dto);
+        Long diaryId = upsert(memberId, diary);
+        diary = diary.toBuilder().id(diaryId).build();
+
+        keywordIndexService.index(diaryId, memberId, diary.getRecordDate(), diary.getContent());
+        // upsert 는 덮어쓴 이전 감정을 돌려주지 않으므로 그 달만 다시 집계 (uk_diary_member_date 범위, 최대 31행)
+        // 미리 행을 잠가 이전 감정을 읽으면 새 날짜에서는 InnoDB 갭 락끼리 교착 상태가 될 수 있음
+        emotionStatService.refreshMonth(memberId, diary.getRecordDate());
+        eventPublisher.publishEvent(new DiaryChangedEvent(memberId, diary.getRecordDate()));
+        if (diary.getAnalysisStatus() == AnalysisStatus.PENDING) {
+            requestAnalysis(diary);
+        }
+        return new DiaryResponseDto(diary);
+    }
 
-        if (existingDiary.isPresent()) {
-            updateDiaryLogic(existingDiary.get(), dto);
-        } else {
-            // ★ 핵심 로직: 사용자 선택 vs AI 분석 분기 처리
+    // 요청 -> 저장할 일기 값 (id/회원 없음)
+    public Diary toDiary(DiaryRequestDto dto) {
+        // ★ 핵심 로직: 사용자 선택 vs AI 분석 분기 처리
 
-            // 1) 일단 사용자가 보낸 색깔이랑 가장 비슷한 감정을 수학적으로 찾아봅니다.
-            EmotionType closestEmotion = findClosestEmotion(dto.getHexCode());
+        // 1) 일단 사용자가 보낸 색깔이랑 가장 비슷한 감정을 찾아봅니다.
+        EmotionType closestEmotion = classifyColor(dto.getHexCode());
 
-            String finalHex;
-            EmotionType finalEmotion;
+        // 2) 분기점: 사용자가 색을 직접 골랐나? (NORMAL이 아닌가?)
+        boolean userSelected = closestEmotion != EmotionType.NORMAL;
 
-            // 2) 분기점: 사용자가 색을 직접 골랐나? (NORMAL이 아닌가?)
-            if (closestEmotion != EmotionType.NORMAL) {
+        return Diary.builder()
+                .recordDate(dto.getRecordDate())
+                .content(dto.getContent())
                 // [CASE A] 직접 선택: 사용자가 고른 색을 유지하고, 감정만 그 색 계열로 맞춤
-                finalHex = dto.getHexCode();
-                finalEmotion = closestEmotion;
-            } else {
-                // [CASE B] 선택 안 함(기본값): AI가 글 내용을 읽고 감정과 색을 결정
-                finalEmotion = analyzeEmotion(dto.getContent());
-                finalHex = finalEmotion.getRepresentativeHexCode();
-            }
+                // [CASE B] 선택 안 함(기본값): 일단 '분석 중'으로 저장하고 AI 분석은 커밋 후 비동기로 진행
+                .hexCode(userSelected ? dto.getHexCode() : EmotionType.NORMAL.getRepresentativeHexCode())
+                .emotionType(closestEmotion)
+                .analysisStatus(userSelected ? AnalysisStatus.COMPLETED : AnalysisStatus.PENDING)
+                .build();
+    }
 
-            Diary diary = Diary.builder()
-                    .member(member)
-                    .recordDate(dto.getRecordDate())
-                    .content(dto.getContent())
-                    .hexCode(finalHex)
-                    .emotionType(finalEmotion)
-                    .build();
-            diaryRepository.save(diary);
-        }
+    // 색 -> 감정 매칭 시간 (diary.color.classify)
+    private EmotionType classifyColor(String hexCode) {
+        return meterRegistry.timer("diary.color.classify").record(() -> emotionColorClassifier.classify(hexCode));
+    }
+
+    // 새 일기면 INSERT, 같은 날짜 일기가 있으면 그 행을 UPDATE. 어느 쪽이든 diary_id 를 돌려받음
+    private Long upsert(Long memberId, Diary diary) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setLong(1, memberId);
+            statement.setDate(2, Date.valueOf(diary.getRecordDate()));
+            statement.setString(3, diary.getContent());
+            statement.setString(4, diary.getHexCode());
+            statement.setString(5, diary.getEmotionType().name());
+            statement.setString(6, diary.getAnalysisStatus().name());
+            return statement;
+        }, keyHolder);
+
+        // UPDATE 로 처리되면 드라이버가 키를 2개 돌려주기도 하므로 첫 번째 값만 사용
+        // (드라이버 설정상 키를 못 받으면 유니크 키로 한 번 더 조회)
+        return keyHolder.getKeyList().stream()
+                .flatMap(keys -> keys.values().stream())
+                .map(key -> ((Number) key).longValue())
+                .findFirst()
+                .or(() -> diaryRepository.findIdByMemberIdAndRecordDate(memberId, diary.getRecordDate()))
+                .orElseThrow(() -> new IllegalStateException("일기 저장 결과를 확인할 수 없습니다."));
     }
 
     // 3. 일기 수정 (ID 기준)
     @Transactional
-    public void updateDiary(Long diaryId, DiaryRequestDto dto) {
+    public DiaryResponseDto updateDiary(Long diaryId, DiaryRequestDto dto) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 일기가 존재하지 않습니다."));
 
         updateDiaryLogic(diary, dto);
+        return new DiaryResponseDto(diary);
     }
 
     // 4. 일기 삭제
     @Transactional
     public void deleteDiary(Long diaryId) {
-        diaryRepository.deleteById(diaryId);
+        diaryRepository.findById(diaryId).ifPresent(diary -> {
+            keywordIndexService.remove(diaryId);
+            emotionStatService.move(diary.getMember().getId(), diary.getRecordDate(), diary.getEmotionType(), null);
+            diaryRepository.delete(diary);
+            publishChanged(diary);
+        });
     }
 
     // [공통 로직] 수정 메서드
     private void updateDiaryLogic(Diary diary, DiaryRequestDto dto) {
+        EmotionType previousEmotion = diary.getEmotionType();
 
         // 1. 사용자가 보낸 색깔이 있는지(그리고 무슨 감정과 비슷한지) 확인
-        EmotionType closestEmotion = findClosestEmotion(dto.getHexCode());
-
-        String finalHex;
-        EmotionType finalEmotion;
+        EmotionType closestEmotion = classifyColor(dto.getHexCode());
 
         // 2. 분기 처리 (저장 로직과 동일하게)
         if (closestEmotion != EmotionType.NORMAL) {
             // [CASE A] 직접 선택: 사용자가 고른 색 유지, 감정은 색 계열 따라감
-            finalHex = dto.getHexCode();
-            finalEmotion = closestEmotion;
+            diary.update(dto.getContent(), dto.getHexCode(), closestEmotion);
         } else {
-            // [CASE B] 선택 안 함: AI가 분석
-            finalEmotion = analyzeEmotion(dto.getContent());
-            finalHex = finalEmotion.getRepresentativeHexCode();
+            // [CASE B] 선택 안 함: 내용만 먼저 반영하고 AI 분석은 비동기로
+            diary.updatePendingAnalysis(dto.getContent());
+            requestAnalysis(diary);
         }
 
-        // 3. 최종 결과로 업데이트
-        diary.update(dto.getContent(), finalHex, finalEmotion);
+        // 3. 바뀐 내용으로 이 일기의 키워드만 다시 계산하고, 감정이 바뀌었으면 통계도 옮김
+        keywordIndexService.index(diary);
+        emotionStatService.move(diary.getMember().getId(), diary.getRecordDate(), previousEmotion, diary.getEmotionType());
+        publishChanged(diary);
     }
 
-    public EmotionType analyzeEmotion(String content) {
-        if (content == null || content.trim().isEmpty()) return EmotionType.NORMAL;
-
-        try {
-            // 1. 파이썬 서버(/analyze)로 POST 요청 전송
-            AiResponseDto response = webClient.post()
-                    .uri("/analyze")
-                    .bodyValue(Map.of("content", content)) // {"content": "일기내용"} JSON 전송
-                    .retrieve()
-                    .bodyToMono(AiResponseDto.class) // 응답을 DTO로 변환
-                    .block(); // 결과가 올 때까지 기다림 (동기 처리)
-
-            System.out.println("====== AI 응답 확인 ======");
-            System.out.println("보낸 문장: " + content);
-            System.out.println("AI가 준 감정(영어): " + response.getEmotion());
-            System.out.println("AI가 준 라벨(한글): " + response.getKorean_label());
-            System.out.println("========================");
-
-            // 2. 결과가 오면 Enum으로 변환해서 반환
-            if (response != null && response.getEmotion() != null) {
-                System.out.println("AI 분석 결과: " + response.toString()); // 로그 확인용
-                return EmotionType.valueOf(response.getEmotion());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println("Python 서버 연결 실패! 기본값으로 대체합니다.");
-        }
-
-        return EmotionType.NORMAL; // 실패 시 기본값
+    // 커밋이 끝난 뒤 그 달의 분석 응답 캐시(ETag)를 갱신하도록 알림
+    private void publishChanged(Diary diary) {
+        eventPublisher.publishEvent(new DiaryChangedEvent(diary.getMember().getId(), diary.getRecordDate()));
     }
 
-    private EmotionType findClosestEmotion(String inputHex) {
-        if (inputHex == null || inputHex.isEmpty()) return EmotionType.NORMAL;
-
-        // "NORMAL" 색상이거나 기본값이면 바로 NORMAL 리턴 (-> AI 분석으로 넘어감)
-        if (inputHex.equalsIgnoreCase(EmotionType.NORMAL.getRepresentativeHexCode())
-                || inputHex.equalsIgnoreCase("#E0E0E0")
-                || inputHex.equalsIgnoreCase("#CCCCCC")) {
-            return EmotionType.NORMAL;
-        }
-
-        EmotionType closestType = EmotionType.NORMAL;
-        double minDistance = Double.MAX_VALUE;
-
-        // RGB 변환
-        int r1, g1, b1;
-        try {
-            r1 = Integer.valueOf(inputHex.substring(1, 3), 16);
-            g1 = Integer.valueOf(inputHex.substring(3, 5), 16);
-            b1 = Integer.valueOf(inputHex.substring(5, 7), 16);
-        } catch (Exception e) {
-            return EmotionType.NORMAL; // 색상 코드가 이상하면 NORMAL
-        }
-
-        // 모든 감정 Enum을 돌면서 거리 계산
-        for (EmotionType type : EmotionType.values()) {
-            if (type == EmotionType.NORMAL) continue; // NORMAL과는 비교 안 함
-
-            String targetHex = type.getRepresentativeHexCode();
-            int r2 = Integer.valueOf(targetHex.substring(1, 3), 16);
-            int g2 = Integer.valueOf(targetHex.substring(3, 5), 16);
-            int b2 = Integer.valueOf(targetHex.substring(5, 7), 16);
-
-            // 거리 계산: sqrt((r1-r2)^2 + ...)
-            double distance = Math.sqrt(Math.pow(r1 - r2, 2) + Math.pow(g1 - g2, 2) + Math.pow(b1 - b2, 2));
-
-            if (distance < minDistance) {
-                minDistance = distance;
-                closestType = type;
-            }
-        }
-        return closestType;
+    // 커밋이 끝난 뒤 EmotionAnalysisWorker 가 분석하도록 이벤트 발행
+    private void requestAnalysis(Diary diary) {
+        eventPublisher.publishEvent(new DiaryAnalysisRequestedEvent(diary.getId(), diary.getContent()));
     }
 
-    public List<Map<String, Object>> getTopKeywords(String email, int year, int month) {
-        // 1. 해당 월의 일기 조회
-        List<Diary> diaries = diaryRepository.findByMemberEmailAndRecordDateBetween(
-                email,
-                LocalDate.of(year, month, 1),
-                LocalDate.of(year, month, 1).plusMonths(1).minusDays(1)
-        );
-
-        // 2. 일기 내용 합치기
-        StringBuilder fullContent = new StringBuilder();
-        for (Diary diary : diaries) {
-            if (diary.getContent() != null) {
-                fullContent.append(diary.getContent()).append(" ");
-            }
-        }
-
-        if (fullContent.length() == 0) return List.of();
-
-        try {
-            // 3. 형태소 분석
-            kr.co.shineware.nlp.komoran.model.KomoranResult analyzeResult = komoran.analyze(fullContent.toString());
-            List<kr.co.shineware.nlp.komoran.model.Token> tokens = analyzeResult.getTokenList();
-
-            Map<String, Integer> frequencyMap = new HashMap<>();
+    // 5. 비동기 분석 결과 반영 (분석 도중 내용이 또 바뀌었으면 무시 -> 새 분석 결과가 반영됨)
+    // 항상 새 트랜잭션: 커밋 후 콜백 등 이미 끝난 트랜잭션이 묶여 있는 스레드에서 불려도 결과가 저장되도록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void completeAnalysis(Long diaryId, String analyzedContent, EmotionType emotionType) {
+        diaryRepository.findById(diaryId)
+                .filter(diary -> isStillPending(diary, analyzedContent))
+                .ifPresent(diary -> {
+                    EmotionType previousEmotion = diary.getEmotionType();
+                    diary.completeAnalysis(emotionType);
+                    emotionStatService.move(diary.getMember().getId(), diary.getRecordDate(),
+                            previousEmotion, emotionType);
+                    publishChanged(diary);
+                });
+    }
 
-            for (kr.co.shineware.nlp.komoran.model.Token token : tokens) {
-                String pos = token.getPos();
-                String word = token.getMorph();
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failAnalysis(Long diaryId, String analyzedContent) {
+        diaryRepository.findById(diaryId)
+                .filter(diary -> isStillPending(diary, analyzedContent))
+                .ifPresent(diary -> {
+                    diary.failAnalysis();
+                    publishChanged(diary);
+                });
+    }
 
-                if ((pos.startsWith("NN") || pos.startsWith("VV") || pos.startsWith("VA")) && word.length() > 1) {
+    private boolean isStillPending(Diary diary, String analyzedContent) {
+        return diary.getAnalysisStatus() == AnalysisStatus.PENDING
+                && Objects.equals(diary.getContent(), analyzedContent);
+    }
 
-                    // ★ [수정] 동사뿐만 아니라 형용사도 어간(root)에 '다'를 붙여서 원형으로 변환
-                    if (pos.startsWith("VV") || pos.startsWith("VA")) {
-                        word = word + "다"; // 예: '슬프' -> '슬프다'
-                    }
-                    frequencyMap.put(word, frequencyMap.getOrDefault(word, 0) + 1);
-                }
-            }
+    // 6. 분석 진행 상태 조회 (본인 일기만)
+    public DiaryAnalysisStatusDto getAnalysisStatus(Long memberId, Long diaryId) {
+        return diaryRepository.findById(diaryId)
+                .filter(diary -> diary.getMember().getId().equals(memberId))
+                .map(DiaryAnalysisStatusDto::new)
+                .orElseThrow(() -> new IllegalArgumentException("해당 일기가 존재하지 않습니다."));
+    }
 
-            // 4. 많이 나온 순서대로 정렬 후 상위 30개 반환
-            return frequencyMap.entrySet().stream()
-                    .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue()))
-                    .limit(20)
-                    // ★ [수정된 부분] Map.<String, Object>of(...) 로 타입을 확실하게 고정
-                    .map(entry -> Map.<String, Object>of(
-                            "text", entry.getKey(),
-                            "weight", entry.getValue()
-                    ))
-                    .collect(Collectors.toList());
+    // 미리보기용 동기 분석 (AI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행)
+    // diary.analysis.result{path=preview, emotion}: 결과 감정 분포 (emotion=NORMAL 비율 = 분석이 감정을 못 잡은 비율)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Observed(name = "diary.analyze", contextualName = "analyze-emotion")
+    public EmotionType analyzeEmotion(String content) {
+        EmotionType emotionType = (content == null || content.trim().isEmpty())
+                ? EmotionType.NORMAL
+                // AI 서버 장애 시에는 classify 가 대체 결과를 돌려줌
+                : emotionClassifier.classify(content).emotionType();
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return List.of();
-        }
+        meterRegistry.counter("diary.analysis.result", "path", "preview", "emotion", emotionType.name()).increment();
+        return emotionType;
     }
-    public String getNickname(String email) {
-        return memberRepository.findByEmail(email)
-                .map(member -> member.getNickname()) // Member 엔티티에 getNickname()이 있어야 함
-                .orElse("사용자"); // 없으면 기본값
+
+    // 기간별 키워드: 저장 시 계산해 둔 일기별 키워드(diary_keyword)를 합산만 함
+    @Observed(name = "diary.keywords.top", contextualName = "top-keywords")
+    public List<KeywordResponseDto> getTopKeywords(Long memberId, KeywordRange range, LocalDate anchor, int limit) {
+        // 많이 나온 순서대로 상위 limit 개
+        return keywordIndexService.getTopKeywords(memberId, range.startDate(anchor), range.endDate(anchor), limit)
+                .stream()
+                .map(keyword -> new KeywordResponseDto(keyword.term(), keyword.count()))
+                .toList();
     }
-}
\ No newline at end of file
+}
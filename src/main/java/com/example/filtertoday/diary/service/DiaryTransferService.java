@@ -0,0 +1,250 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.analysis.service.EmotionStatService;
+import com.example.filtertoday.common.AnalysisStatus;
+import com.example.filtertoday.common.io.CsvFormatException;
+import com.example.filtertoday.common.io.CsvReader;
+import com.example.filtertoday.diary.dto.DiaryImportResultDto;
+import com.example.filtertoday.diary.dto.DiaryRequestDto;
+import com.example.filtertoday.diary.dto.TransferFormat;
+import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.event.DiaryChangedEvent;
+import com.example.filtertoday.diary.repository.DiaryExportView;
+import com.example.filtertoday.diary.repository.DiaryIdView;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// 일기 일괄 가져오기/내보내기 (NDJSON, CSV)
+// 가져오기: 한 줄씩 파싱해서 500건마다 JDBC 배치 upsert + 커밋 / 내보내기: DB 커서에서 바로 응답으로 씀
+// 가져온 일기의 감정 분석은 PENDING 으로만 저장하고 PendingAnalysisSweeper 가 분석 풀의 빈 자리만큼 처리
+@Service
+@RequiredArgsConstructor
+public class DiaryTransferService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final String CSV_HEADER = "recordDate,content,hexCode,emotionType,analysisStatus";
+
+    private final DiaryService diaryService;
+    private final DiaryRepository diaryRepository;
+    private final KeywordIndexService keywordIndexService;
+    private final EmotionStatService emotionStatService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final PendingAnalysisSweeper pendingAnalysisSweeper;
+
+    // 파일 구조가 깨져서 중간에 멈추면 DiaryImportException (그 전까지 커밋된 묶음은 유지, 결과에 커밋된 수와 위치)
+    public DiaryImportResultDto importDiaries(Long memberId, TransferFormat format, InputStream body) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        // 같은 날짜가 여러 번 나오면 마지막 줄이 남음
+        Map<LocalDate, Diary> chunk = new LinkedHashMap<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            if (format == TransferFormat.CSV) {
+                readCsv(reader, chunk, memberId, progress);
+            } else {
+                readNdjson(reader, chunk, memberId, progress);
+            }
+        } catch (CsvFormatException e) {
+            throw new DiaryImportException(progress.abort(e.getRecordNumber(), e.getMessage()));
+        }
+        flush(memberId, chunk, progress);
+
+        // 커밋이 모두 끝난 뒤, 풀에 자리가 있는 만큼만 바로 분석 요청 (나머지는 주기적인 sweep)
+        if (progress.pending > 0) pendingAnalysisSweeper.sweep();
+        return progress.result(null);
+    }
+
+    private void readNdjson(BufferedReader reader, Map<LocalDate, Diary> chunk,
+                            Long memberId, ImportProgress progress) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            DiaryRequestDto dto;
+            try {
+                dto = objectMapper.readValue(line, DiaryRequestDto.class);
+            } catch (IOException e) {
+                progress.skip(lineNumber, "JSON 형식 오류");
+                continue;
+            }
+            if (dto.getRecordDate() == null) {
+                progress.skip(lineNumber, "recordDate 가 없습니다.");
+                continue;
+            }
+            add(dto, chunk, memberId, progress);
+        }
+    }
+
+    // 첫 레코드는 헤더 (열 순서는 자유, recordDate 필수)
+    private void readCsv(BufferedReader reader, Map<LocalDate, Diary> chunk,
+                         Long memberId, ImportProgress progress) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) return;
+
+        int dateColumn = header.indexOf("recordDate");
+        int contentColumn = header.indexOf("content");
+        int hexColumn = header.indexOf("hexCode");
+        if (dateColumn < 0) throw new CsvFormatException(1, "CSV 헤더에 recordDate 열이 없습니다.");
+
+        List<String> record;
+        int recordNumber = 1;
+        while ((record = csv.readRecord()) != null) {
+            recordNumber++;
+            if (record.size() == 1 && record.get(0).isBlank()) continue;
+            DiaryRequestDto dto = new DiaryRequestDto();
+            try {
+                dto.setRecordDate(LocalDate.parse(column(record, dateColumn)));
+            } catch (RuntimeException e) {
+                progress.skip(recordNumber, "recordDate 형식 오류: " + column(record, dateColumn));
+                continue;
+            }
+            dto.setContent(column(record, contentColumn));
+            dto.setHexCode(column(record, hexColumn));
+            add(dto, chunk, memberId, progress);
+        }
+    }
+
+    private static String column(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    private void add(DiaryRequestDto dto, Map<LocalDate, Diary> chunk, Long memberId, ImportProgress progress) {
+        chunk.put(dto.getRecordDate(), diaryService.toDiary(dto));
+        if (chunk.size() >= CHUNK_SIZE) {
+            flush(memberId, chunk, progress);
+        }
+    }
+
+    // 한 묶음을 한 트랜잭션으로: 배치 upsert -> id 확인 -> 키워드/통계 -> 분석 요청(커밋 후 비동기)
+    private void flush(Long memberId, Map<LocalDate, Diary> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) return;
+        List<Diary> diaries = new ArrayList<>(chunk.values());
+        chunk.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(DiaryService.UPSERT_SQL, diaries, diaries.size(), (statement, diary) -> {
+                statement.setLong(1, memberId);
+                statement.setDate(2, Date.valueOf(diary.getRecordDate()));
+                statement.setString(3, diary.getContent());
+                statement.setString(4, diary.getHexCode());
+                statement.setString(5, diary.getEmotionType().name());
+                statement.setString(6, diary.getAnalysisStatus().name());
+            });
+
+            Map<LocalDate, Long> ids = new LinkedHashMap<>();
+            for (DiaryIdView view : diaryRepository.findIdsByRecordDates(memberId,
+                    diaries.stream().map(Diary::getRecordDate).toList())) {
+                ids.put(view.getRecordDate(), view.getId());
+            }
+
+            List<KeywordIndexService.Entry> keywordEntries = new ArrayList<>(diaries.size());
+            Set<YearMonth> months = new LinkedHashSet<>();
+            for (Diary diary : diaries) {
+                Long diaryId = ids.get(diary.getRecordDate());
+                keywordEntries.add(new KeywordIndexService.Entry(diaryId, memberId, diary.getRecordDate(), diary.getContent()));
+                months.add(YearMonth.from(diary.getRecordDate()));
+
+                // 색을 고르지 않은 일기는 PENDING 으로만 저장 (분석 요청은 sweep 이 풀의 빈 자리만큼)
+                if (diary.getAnalysisStatus() == AnalysisStatus.PENDING) {
+                    progress.pending++;
+                }
+            }
+
+            keywordIndexService.indexAll(keywordEntries);
+            for (YearMonth month : months) {
+                emotionStatService.refreshMonth(memberId, month.atDay(1));
+                eventPublisher.publishEvent(new DiaryChangedEvent(memberId, month.atDay(1)));
+            }
+        });
+        progress.imported += diaries.size();
+    }
+
+    // 내보내기: 날짜순, 결과를 목록으로 모으지 않고 한 줄씩 씀 (응답 스트림을 다 쓸 때까지 읽기 트랜잭션 유지)
+    @Transactional(readOnly = true)
+    public void exportDiaries(Long memberId, TransferFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TransferFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<DiaryExportView> rows = diaryRepository.streamForExport(memberId)) {
+            for (DiaryExportView row : (Iterable<DiaryExportView>) rows::iterator) {
+                AnalysisStatus status = row.getAnalysisStatus() != null ? row.getAnalysisStatus() : AnalysisStatus.COMPLETED;
+                if (format == TransferFormat.CSV) {
+                    writer.write(row.getRecordDate() + ","
+                            + CsvReader.escape(row.getContent()) + ","
+                            + row.getHexCode() + ","
+                            + row.getEmotionType().name() + ","
+                            + status.name());
+                } else {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("recordDate", row.getRecordDate().toString());
+                    line.put("content", row.getContent());
+                    line.put("hexCode", row.getHexCode());
+                    line.put("emotionType", row.getEmotionType().name());
+                    line.put("analysisStatus", status.name());
+                    writer.write(objectMapper.writeValueAsString(line));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static class ImportProgress {
+        private int imported;
+        private int pending;
+        private int skipped;
+        private final List<String> errors = new ArrayList<>();
+
+        void skip(int lineNumber, String reason) {
+            skipped++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + ": " + reason);
+            }
+        }
+
+        // 멈춘 위치 이후는 읽지 않음. 아직 커밋하지 않은 묶음도 저장하지 않음
+        DiaryImportResultDto abort(int lineNumber, String reason) {
+            errors.add(lineNumber + ": " + reason);
+            return result(lineNumber);
+        }
+
+        DiaryImportResultDto result(Integer abortedAt) {
+            return new DiaryImportResultDto(imported, pending, skipped, errors, abortedAt);
+        }
+    }
+}
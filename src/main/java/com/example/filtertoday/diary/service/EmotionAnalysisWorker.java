@@ -0,0 +1,103 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.classifier.EmotionClassifier;
+import com.example.filtertoday.diary.event.DiaryAnalysisRequestedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 저장이 커밋된 뒤 별도 스레드 풀에서 감정 분석을 돌리고 결과를 일기에 반영
+// 풀이 가득 차면 요청을 버리고 일기는 PENDING 으로 남음 -> PendingAnalysisSweeper 가 자리가 날 때 다시 요청
+// diary.analysis.async{outcome}: 완료/실패/거절 건수, diary.analysis.result{path=async, emotion}: 결과 감정 분포
+@Slf4j
+@Component
+public class EmotionAnalysisWorker {
+
+    private final EmotionClassifier emotionClassifier;
+    private final DiaryService diaryService;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+
+    // 풀에 들어가 있는(대기 중 포함) 일기 -> sweep 때 같은 일기를 또 넣지 않도록
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public EmotionAnalysisWorker(EmotionClassifier emotionClassifier, DiaryService diaryService,
+                                 MeterRegistry meterRegistry,
+                                 @Qualifier("emotionAnalysisExecutor") ThreadPoolTaskExecutor executor) {
+        this.emotionClassifier = emotionClassifier;
+        this.diaryService = diaryService;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnalysisRequested(DiaryAnalysisRequestedEvent event) {
+        submit(event.diaryId(), event.content());
+    }
+
+    // 풀에 넣기만 하고 바로 돌아옴 (호출한 스레드에서 분석하지 않음). 가득 차서 거절되면 false
+    public boolean submit(Long diaryId, String content) {
+        inFlight.add(diaryId);
+        try {
+            executor.execute(() -> {
+                try {
+                    analyze(diaryId, content);
+                } finally {
+                    inFlight.remove(diaryId);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(diaryId);
+            meterRegistry.counter("diary.analysis.async", "outcome", "rejected").increment();
+            log.debug("분석 대기열이 가득 차서 나중에 다시 요청: diaryId={}", diaryId);
+            return false;
+        }
+    }
+
+    public boolean isInFlight(Long diaryId) {
+        return inFlight.contains(diaryId);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // 대기열에 더 넣을 수 있는 작업 수
+    public int remainingCapacity() {
+        return executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+    }
+
+    private void analyze(Long diaryId, String content) {
+        if (content == null || content.trim().isEmpty()) {
+            diaryService.completeAnalysis(diaryId, content, EmotionType.NORMAL);
+            record("empty", EmotionType.NORMAL);
+            return;
+        }
+
+        try {
+            // 분류(AI 호출) 동안에는 트랜잭션/커넥션을 잡지 않음
+            EmotionType emotionType = emotionClassifier.classify(content).emotionType();
+            diaryService.completeAnalysis(diaryId, content, emotionType);
+            record("completed", emotionType);
+        } catch (Exception e) {
+            log.error("비동기 감정 분석 실패: diaryId={}", diaryId, e);
+            meterRegistry.counter("diary.analysis.async", "outcome", "failed").increment();
+            diaryService.failAnalysis(diaryId, content);
+        }
+    }
+
+    private void record(String outcome, EmotionType emotionType) {
+        meterRegistry.counter("diary.analysis.async", "outcome", outcome).increment();
+        meterRegistry.counter("diary.analysis.result", "path", "async", "emotion", emotionType.name()).increment();
+    }
+}
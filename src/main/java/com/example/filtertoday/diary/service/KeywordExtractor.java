@@ -0,0 +1,74 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.nlp.MorphemeAnalyzer;
+import com.example.filtertoday.common.nlp.TermCounter;
+import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 일기 내용 -> 키워드(명사/동사/형용사) 빈도
+// 월별 키워드, 검색 등 키워드를 다루는 곳은 모두 이 규칙을 사용
+@Component
+@RequiredArgsConstructor
+public class KeywordExtractor {
+
+    private final MorphemeAnalyzer morphemeAnalyzer;
+
+    public TermCounter extract(String content) {
+        TermCounter counter = new TermCounter();
+        countInto(morphemeAnalyzer.analyze(content), counter);
+        return counter;
+    }
+
+    // 여러 일기를 분석 풀에서 병렬로 처리, 입력 순서대로 반환
+    public List<TermCounter> extractAll(List<String> contents) {
+        return morphemeAnalyzer.analyzeAll(contents).stream()
+                .map(tokens -> {
+                    TermCounter counter = new TermCounter();
+                    countInto(tokens, counter);
+                    return counter;
+                })
+                .toList();
+    }
+
+    // 검색어 -> (색인과 같은 규칙의 키워드, 본문에서 찾을 형태소 원문) 순서 유지
+    public Map<String, String> extractTerms(String query) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (Token token : morphemeAnalyzer.analyze(query)) {
+            String keyword = toKeyword(token);
+            if (keyword != null) {
+                terms.putIfAbsent(keyword, token.getMorph());
+            }
+        }
+        return terms;
+    }
+
+    // 토큰을 바로 카운터에 누적 (여러 일기를 한 카운터에 모을 때도 사용)
+    public void countInto(List<Token> tokens, TermCounter counter) {
+        for (Token token : tokens) {
+            String keyword = toKeyword(token);
+            if (keyword != null) {
+                counter.increment(keyword);
+            }
+        }
+    }
+
+    // 키워드가 아니면 null
+    static String toKeyword(Token token) {
+        String pos = token.getPos();
+        String word = token.getMorph();
+
+        if ((pos.startsWith("NN") || pos.startsWith("VV") || pos.startsWith("VA")) && word.length() > 1) {
+            // 동사뿐만 아니라 형용사도 어간(root)에 '다'를 붙여서 원형으로 변환
+            if (pos.startsWith("VV") || pos.startsWith("VA")) {
+                return word + "다"; // 예: '슬프' -> '슬프다'
+            }
+            return word;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.nlp.TermCounter;
+import com.example.filtertoday.common.nlp.TopKSelector;
+import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.repository.DiaryKeywordRepository;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.repository.KeywordCountView;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 일기별 키워드 빈도(diary_keyword) 관리
+// 저장/수정 시 해당 일기만 다시 계산하므로, 월별 키워드 조회는 형태소 분석 없이 합산 쿼리 한 번
+@Service
+@RequiredArgsConstructor
+public class KeywordIndexService {
+
+    private static final int MAX_TERM_LENGTH = 50;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO diary_keyword (diary_id, member_id, record_date, term, frequency) VALUES (?, ?, ?, ?, ?)";
+
+    private final DiaryKeywordRepository diaryKeywordRepository;
+    private final DiaryRepository diaryRepository;
+    private final KeywordExtractor keywordExtractor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 저장/수정된 일기의 키워드를 다시 계산 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void index(Diary diary) {
+        index(diary.getId(), diary.getMember().getId(), diary.getRecordDate(), diary.getContent());
+    }
+
+    @Transactional
+    public void index(Long diaryId, Long memberId, LocalDate recordDate, String content) {
+        diaryKeywordRepository.deleteByDiaryId(diaryId);
+        insert(diaryId, memberId, recordDate, keywordExtractor.extract(content));
+    }
+
+    // 여러 일기를 한 번에 (가져오기). 형태소 분석은 분석 풀에서 병렬로
+    @Transactional
+    public void indexAll(List<Entry> entries) {
+        if (entries.isEmpty()) return;
+
+        diaryKeywordRepository.deleteByDiaryIdIn(entries.stream().map(Entry::diaryId).toList());
+        List<TermCounter> keywords = keywordExtractor.extractAll(entries.stream().map(Entry::content).toList());
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            insert(entry.diaryId(), entry.memberId(), entry.recordDate(), keywords.get(i));
+        }
+    }
+
+    @Transactional
+    public void remove(Long diaryId) {
+        diaryKeywordRepository.deleteByDiaryId(diaryId);
+    }
+
+    // 기간 내 키워드 합산 결과를 한 줄씩 받아 상위 limit 개만 힙에 유지 (DB 정렬/전체 목록 적재 없음)
+    // keyword.topk.candidates: 한 번 조회에서 훑은 서로 다른 키워드 수
+    @Transactional(readOnly = true)
+    public List<TopKSelector.TermCount> getTopKeywords(Long memberId, LocalDate startDate,
+                                                       LocalDate endDate, int limit) {
+        TopKSelector selector = new TopKSelector(limit);
+        int candidates = 0;
+        try (Stream<KeywordCountView> counts =
+                     diaryKeywordRepository.streamKeywordCounts(memberId, startDate, endDate)) {
+            for (Iterator<KeywordCountView> it = counts.iterator(); it.hasNext(); candidates++) {
+                KeywordCountView count = it.next();
+                selector.offer(count.getTerm(), count.getWeight());
+            }
+        }
+        meterRegistry.summary("keyword.topk.candidates").record(candidates);
+        return selector.result();
+    }
+
+    public boolean isEmpty() {
+        return diaryKeywordRepository.count() == 0;
+    }
+
+    // 전체 재색인 (기존 데이터 이관, 키워드 규칙 변경 시). 200건씩 병렬 분석 후 페이지마다 커밋
+    public int rebuildAll() {
+        transactionTemplate.executeWithoutResult(status -> diaryKeywordRepository.deleteAllInBatch());
+
+        long lastId = 0;
+        int indexed = 0;
+        while (true) {
+            List<Diary> page = diaryRepository.findTop200ByIdGreaterThanOrderByIdAsc(lastId);
+            if (page.isEmpty()) break;
+
+            List<TermCounter> keywords = keywordExtractor.extractAll(
+                    page.stream().map(Diary::getContent).toList());
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < page.size(); i++) {
+                    Diary diary = page.get(i);
+                    insert(diary.getId(), diary.getMember().getId(), diary.getRecordDate(), keywords.get(i));
+                }
+            });
+
+            lastId = page.get(page.size() - 1).getId();
+            indexed += page.size();
+        }
+        return indexed;
+    }
+
+    public record Entry(Long diaryId, Long memberId, LocalDate recordDate, String content) {
+    }
+
+    // 일기 하나의 키워드를 JDBC 배치로 한 번에 저장 (IDENTITY 키라 JPA saveAll 은 행마다 INSERT)
+    private void insert(Long diaryId, Long memberId, LocalDate recordDate, TermCounter frequencies) {
+        List<Object[]> rows = new ArrayList<>(frequencies.size());
+        Date sqlDate = Date.valueOf(recordDate);
+        frequencies.forEach((term, frequency) -> {
+            if (term.length() <= MAX_TERM_LENGTH) {
+                rows.add(new Object[]{diaryId, memberId, sqlDate, term, frequency});
+            }
+        });
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.AnalysisStatus;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.example.filtertoday.diary.repository.PendingAnalysisView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 분석 대기(PENDING)로 남은 일기를 분석 풀의 빈 자리만큼 다시 요청
+// 대기열 초과로 거절된 요청, 일괄 가져오기(요청 없이 PENDING 으로만 저장), 재시작으로 잃어버린 작업을 처리
+// 여러 서버가 같은 일기를 동시에 분석해도 결과 반영은 내용이 그대로인 경우 한 번만 의미가 있음 (completeAnalysis)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingAnalysisSweeper {
+
+    private final DiaryRepository diaryRepository;
+    private final EmotionAnalysisWorker emotionAnalysisWorker;
+
+    @Scheduled(fixedDelayString = "${ai.analysis.sweep-interval:30s}",
+            initialDelayString = "${ai.analysis.sweep-interval:30s}")
+    public void sweep() {
+        int capacity = emotionAnalysisWorker.remainingCapacity();
+        if (capacity <= 0) return;
+
+        // 이미 풀에 있는 일기도 조회되므로 그만큼 더 가져옴
+        List<PendingAnalysisView> pending = diaryRepository.findByAnalysisStatus(
+                AnalysisStatus.PENDING, Limit.of(capacity + emotionAnalysisWorker.inFlightCount()));
+
+        int submitted = 0;
+        for (PendingAnalysisView diary : pending) {
+            if (submitted >= capacity) break;
+            if (emotionAnalysisWorker.isInFlight(diary.getId())) continue;
+            if (!emotionAnalysisWorker.submit(diary.getId(), diary.getContent())) break;
+            submitted++;
+        }
+        if (submitted > 0) {
+            log.info("분석 대기 일기 재요청: {}건", submitted);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.filtertoday.member.controller;
+
+import com.example.filtertoday.member.dto.TokenResponseDto;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import com.example.filtertoday.member.security.TokenCookies;
+import com.example.filtertoday.member.security.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+// 토큰 로그인(auth.mode=token) 전용
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class AuthTokenController {
+
+    private final TokenService tokenService;
+    private final TokenCookies tokenCookies;
+
+    // 접근 토큰 재발급 (POST /api/auth/refresh)
+    // 브라우저: 재발급 토큰 쿠키 -> 새 쿠키 / 앱 등: refreshToken 파라미터 -> 본문으로 새 토큰
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(
+            @RequestParam(required = false) String refreshToken,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        boolean fromCookie = refreshToken == null;
+        String token = fromCookie ? tokenCookies.readRefresh(request) : refreshToken;
+
+        Optional<TokenService.IssuedTokens> issued = tokenService.refresh(token);
+        if (issued.isEmpty()) {
+            if (fromCookie) tokenCookies.clear(response);
+            return ResponseEntity.status(401).build();
+        }
+
+        TokenService.IssuedTokens tokens = issued.get();
+        if (fromCookie) tokenCookies.write(response, tokens);
+        String nextRefresh = !fromCookie && tokens.refresh() != null ? tokens.refresh().value() : null;
+        return ResponseEntity.ok(new TokenResponseDto(tokens.access().value(), tokens.access().expiresAt(), nextRefresh));
+    }
+
+    // 모든 기기에서 로그아웃 (POST /api/auth/revoke-all) -> 다른 기기는 접근 토큰 만료 후 재발급 실패
+    @PostMapping("/revoke-all")
+    public ResponseEntity<Void> revokeAll(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            HttpServletResponse response) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        tokenService.revokeAll(principal.getMemberId());
+        tokenCookies.clear(response);
+        return ResponseEntity.noContent().build();
+    }
+}
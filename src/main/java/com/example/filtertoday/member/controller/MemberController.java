@@ -2,13 +2,19 @@ package com.example.filtertoday.member.controller;
 
 import com.example.filtertoday.member.dto.MemberRequestDto;
 import com.example.filtertoday.member.dto.MemberSignupDto;
+import com.example.filtertoday.member.security.MemberPrincipal;
 import com.example.filtertoday.member.service.MemberService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.io.PrintWriter;
 
@@ -30,6 +36,23 @@ public class MemberController {
         return "signup"; // templates/signup.html을 찾아감
     }
 
+    // 닉네임 변경 (PUT /api/member/nickname, body: 새 닉네임)
+    @PutMapping("/api/member/nickname")
+    @ResponseBody
+    public ResponseEntity<String> changeNickname(
+            @RequestBody String nickname,
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        if (principal == null) return ResponseEntity.status(401).build();
+
+        String trimmed = nickname == null ? "" : nickname.trim();
+        if (trimmed.isEmpty() || trimmed.length() > 20) {
+            return ResponseEntity.badRequest().body("닉네임은 1~20자로 입력해주세요.");
+        }
+
+        memberService.changeNickname(principal.getMemberId(), trimmed);
+        return ResponseEntity.ok(trimmed);
+    }
+
     // 3. 회원가입 실제 처리
     @PostMapping("/signup-process") // 혹은 "/signup-process" (본인 설정에 맞게)
     public String joinProcess(MemberSignupDto memberSignupDto, HttpServletResponse response) throws Exception {
@@ -0,0 +1,19 @@
+package com.example.filtertoday.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+
+// 토큰 재발급 응답 (브라우저는 쿠키를 쓰므로 refreshToken 은 요청 본문으로 재발급한 클라이언트에만)
+@Getter
+@ToString(exclude = {"accessToken", "refreshToken"})
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponseDto {
+    private String accessToken;
+    private Instant expiresAt;
+    private String refreshToken;
+}
@@ -0,0 +1,52 @@
+package com.example.filtertoday.member.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// 재발급 토큰 (원문은 쿠키에만, 여기에는 SHA-256 해시만 저장)
+// 재발급할 때마다 새 토큰으로 교체하고 이전 토큰은 revokedAt + replacedBy(새 토큰 id) 를 기록
+// replacedBy 는 교체로 폐기된 경우에만 있음 (로그아웃/전체 폐기/재사용 감지는 revokedAt 만)
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_token_member", columnList = "member_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant revokedAt;
+
+    private Long replacedBy;
+
+    public void revoke(Instant now) {
+        if (revokedAt == null) revokedAt = now;
+    }
+
+    public void rotate(Instant now, Long successorId) {
+        this.revokedAt = now;
+        this.replacedBy = successorId;
+    }
+
+    public boolean isActive(Instant now) {
+        return revokedAt == null && expiresAt.isAfter(now);
+    }
+}
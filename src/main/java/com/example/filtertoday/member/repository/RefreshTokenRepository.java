@@ -0,0 +1,27 @@
+package com.example.filtertoday.member.repository;
+
+import com.example.filtertoday.member.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 재발급용: 행 잠금 -> 여러 서버가 같은 토큰을 동시에 받아도 차례로 처리 (먼저 온 요청만 교체)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshToken t where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findForRefresh(@Param("tokenHash") String tokenHash);
+
+    // 모든 기기에서 로그아웃 (재사용이 감지된 경우 포함)
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.memberId = :memberId and t.revokedAt is null")
+    int revokeAllByMemberId(@Param("memberId") Long memberId, @Param("now") Instant now);
+}
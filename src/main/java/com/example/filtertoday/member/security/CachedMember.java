@@ -0,0 +1,13 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.common.Role;
+import com.example.filtertoday.member.entity.Member;
+
+// 회원 캐시에 보관하는 값 (엔티티 대신 변경 불가능한 복사본)
+public record CachedMember(Long id, String email, String password, String nickname, Role role) {
+
+    public static CachedMember from(Member member) {
+        return new CachedMember(member.getId(), member.getEmail(), member.getPassword(),
+                member.getNickname(), member.getRole());
+    }
+}
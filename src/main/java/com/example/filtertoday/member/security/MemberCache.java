@@ -0,0 +1,62 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.config.AuthProperties;
+import com.example.filtertoday.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 이메일 -> 회원 정보 캐시 (로그인, 닉네임 조회 등에서 같은 회원을 반복 조회하지 않도록)
+// 닉네임/비밀번호 등 회원 정보가 바뀌면 invalidate 로 비움 (트랜잭션 안이면 커밋된 뒤에)
+// auth.mode=token(서버 여러 대)에서는 다른 서버의 invalidate 를 받을 수 없으므로 캐시하지 않음 (요청은 토큰으로 인증)
+@Component
+public class MemberCache {
+
+    private static final int MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final Cache<String, CachedMember> members;
+
+    public MemberCache(MemberRepository memberRepository, AuthProperties authProperties) {
+        this.memberRepository = memberRepository;
+        this.enabled = authProperties.getMode() != AuthProperties.Mode.TOKEN;
+        this.members = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    // 없는 회원은 캐시하지 않음 (가입 직후 바로 로그인할 수 있도록)
+    public Optional<CachedMember> get(String email) {
+        if (!enabled) return memberRepository.findByEmail(email).map(CachedMember::from);
+
+        CachedMember cached = members.getIfPresent(email);
+        if (cached != null) return Optional.of(cached);
+
+        Optional<CachedMember> loaded = memberRepository.findByEmail(email).map(CachedMember::from);
+        loaded.ifPresent(member -> members.put(email, member));
+        return loaded;
+    }
+
+    // 커밋 전에 비우면 그 사이 조회가 변경 전 값을 다시 캐시하므로 커밋 후에 (롤백되면 비울 필요 없음)
+    public void invalidate(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            members.invalidate(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                members.invalidate(email);
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.common.Role;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+// 로그인한 회원 정보 (세션에 저장) -> 요청마다 이메일로 회원을 다시 조회하지 않고 memberId 를 바로 사용
+@Getter
+public class MemberPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long memberId;
+    private final String email;
+    private final String nickname;
+    private final Role role;
+    private final List<GrantedAuthority> authorities;
+    private String password;
+
+    public MemberPrincipal(CachedMember member) {
+        this.memberId = member.id();
+        this.email = member.email();
+        this.nickname = member.nickname();
+        this.role = member.role();
+        this.password = member.password();
+        this.authorities = List.of(new SimpleGrantedAuthority(member.role().getValue()));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // 로그인 성공 후 세션에는 비밀번호를 남기지 않음
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
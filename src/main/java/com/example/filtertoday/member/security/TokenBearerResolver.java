@@ -0,0 +1,29 @@
+package com.example.filtertoday.member.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+
+// 접근 토큰 위치: Authorization: Bearer 헤더 -> 이번 요청에서 재발급한 토큰 -> 쿠키
+// TokenRefreshFilter 가 쓸 수 없다고 표시한 쿠키는 무시 (로그인 페이지 등은 비로그인으로 진행)
+public class TokenBearerResolver implements BearerTokenResolver {
+
+    private final DefaultBearerTokenResolver headerResolver = new DefaultBearerTokenResolver();
+    private final TokenCookies tokenCookies;
+
+    public TokenBearerResolver(TokenCookies tokenCookies) {
+        this.tokenCookies = tokenCookies;
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String header = headerResolver.resolve(request);
+        if (header != null) return header;
+
+        Object refreshed = request.getAttribute(TokenRefreshFilter.REFRESHED_ACCESS);
+        if (refreshed instanceof String value) return value;
+
+        if (request.getAttribute(TokenRefreshFilter.COOKIE_REJECTED) != null) return null;
+        return tokenCookies.readAccess(request);
+    }
+}
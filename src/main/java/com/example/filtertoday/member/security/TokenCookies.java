@@ -0,0 +1,68 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.config.AuthProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 접근/재발급 토큰 쿠키 읽기/쓰기 (HttpOnly -> 스크립트에서 읽을 수 없음, SameSite=Lax)
+@Component
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class TokenCookies {
+
+    private final AuthProperties authProperties;
+
+    public String readAccess(HttpServletRequest request) {
+        return read(request, authProperties.getToken().getAccessCookie());
+    }
+
+    public String readRefresh(HttpServletRequest request) {
+        return read(request, authProperties.getToken().getRefreshCookie());
+    }
+
+    // refresh 가 null 이면 접근 토큰 쿠키만 갱신
+    public void write(HttpServletResponse response, TokenService.IssuedTokens tokens) {
+        AuthProperties.Token token = authProperties.getToken();
+        Instant now = Instant.now();
+        add(response, token.getAccessCookie(), tokens.access().value(),
+                Duration.between(now, tokens.access().expiresAt()));
+        if (tokens.refresh() != null) {
+            add(response, token.getRefreshCookie(), tokens.refresh().value(),
+                    Duration.between(now, tokens.refresh().expiresAt()));
+        }
+    }
+
+    public void clear(HttpServletResponse response) {
+        add(response, authProperties.getToken().getAccessCookie(), "", Duration.ZERO);
+        add(response, authProperties.getToken().getRefreshCookie(), "", Duration.ZERO);
+    }
+
+    private void add(HttpServletResponse response, String name, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(authProperties.getToken().isSecureCookie())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static String read(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName()) && !cookie.getValue().isEmpty()) return cookie.getValue();
+        }
+        return null;
+    }
+}
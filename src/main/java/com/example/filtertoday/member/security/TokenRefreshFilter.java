@@ -0,0 +1,66 @@
+package com.example.filtertoday.member.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// 쿠키의 접근 토큰이 없거나 만료/위조면 재발급 토큰 쿠키로 바로 새로 발급 (사용자는 다시 로그인하지 않음)
+// 재발급도 안 되면 쿠키를 지우고 비로그인 요청으로 진행 -> 페이지는 로그인 화면, API 는 401
+// Authorization 헤더를 쓰는 클라이언트는 /api/auth/refresh 로 직접 재발급
+public class TokenRefreshFilter extends OncePerRequestFilter {
+
+    static final String REFRESHED_ACCESS = TokenRefreshFilter.class.getName() + ".REFRESHED_ACCESS";
+    static final String COOKIE_REJECTED = TokenRefreshFilter.class.getName() + ".COOKIE_REJECTED";
+
+    private final JwtDecoder jwtDecoder;
+    private final TokenService tokenService;
+    private final TokenCookies tokenCookies;
+
+    public TokenRefreshFilter(JwtDecoder jwtDecoder, TokenService tokenService, TokenCookies tokenCookies) {
+        this.jwtDecoder = jwtDecoder;
+        this.tokenService = tokenService;
+        this.tokenCookies = tokenCookies;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || request.getRequestURI().equals("/api/auth/refresh")
+                || request.getRequestURI().equals("/logout");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String access = tokenCookies.readAccess(request);
+        if (access == null || !isValid(access)) {
+            String refresh = tokenCookies.readRefresh(request);
+            Optional<TokenService.IssuedTokens> tokens = refresh != null ? tokenService.refresh(refresh) : Optional.empty();
+            if (tokens.isPresent()) {
+                tokenCookies.write(response, tokens.get());
+                request.setAttribute(REFRESHED_ACCESS, tokens.get().access().value());
+            } else if (access != null || refresh != null) {
+                tokenCookies.clear(response);
+                request.setAttribute(COOKIE_REJECTED, Boolean.TRUE);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isValid(String token) {
+        try {
+            jwtDecoder.decode(token);
+            return true;
+        } catch (JwtException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.common.Role;
+import com.example.filtertoday.config.AuthProperties;
+import com.example.filtertoday.member.entity.RefreshToken;
+import com.example.filtertoday.member.repository.MemberRepository;
+import com.example.filtertoday.member.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// 토큰 로그인 (auth.mode=token)
+// - 접근 토큰: memberId/이메일/닉네임/권한을 담아 서명 (HS256) -> 어느 서버든 DB/세션 없이 검증
+// - 재발급 토큰: 임의 값, DB 에는 해시만 저장. 쓸 때마다 새 값으로 교체하고 이전 값은 폐기
+//   폐기된 값이 다시 오면(탈취 의심) 그 회원의 재발급 토큰을 모두 폐기
+//   단, 교체로 폐기된 지 grace 안이고 교체된 새 토큰이 아직 살아 있으면(동시 요청) 접근 토큰만 발급
+//   로그아웃/전체 폐기/재사용 감지로 폐기된 토큰은 grace 없이 바로 거부
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "auth.mode", havingValue = "token")
+@RequiredArgsConstructor
+public class TokenService {
+
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_NICKNAME = "nickname";
+    static final String CLAIM_ROLE = "role";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AuthProperties authProperties;
+    private final JwtEncoder jwtEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+
+    // 로그인 성공 시
+    @Transactional
+    public IssuedTokens issue(MemberPrincipal principal) {
+        Instant now = Instant.now();
+        CachedMember member = new CachedMember(principal.getMemberId(), principal.getEmail(), null,
+                principal.getNickname(), principal.getRole());
+        return new IssuedTokens(encodeAccess(member, now), newRefresh(member.id(), now, null));
+    }
+
+    // 재발급 토큰으로 새 접근 토큰 (+ 새 재발급 토큰). 만료/폐기/모르는 토큰이면 empty
+    @Transactional
+    public Optional<IssuedTokens> refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return Optional.empty();
+
+        Instant now = Instant.now();
+        RefreshToken stored = refreshTokenRepository.findForRefresh(hash(refreshToken)).orElse(null);
+        if (stored == null || !stored.getExpiresAt().isAfter(now)) return Optional.empty();
+
+        if (stored.getRevokedAt() != null) {
+            if (isConcurrentRotation(stored, now)) {
+                return loadMember(stored.getMemberId()).map(member -> new IssuedTokens(encodeAccess(member, now), null));
+            }
+            if (stored.getReplacedBy() != null) {
+                log.warn("Refresh token reuse detected, revoking all tokens: memberId={}", stored.getMemberId());
+                refreshTokenRepository.revokeAllByMemberId(stored.getMemberId(), now);
+            }
+            return Optional.empty();
+        }
+
+        // 닉네임/권한 변경은 재발급 시점에 반영
+        return loadMember(stored.getMemberId())
+                .map(member -> new IssuedTokens(encodeAccess(member, now), newRefresh(member.id(), now, stored)));
+    }
+
+    // 교체 직후 같은 토큰으로 온 다른 요청 (여러 탭, 응답 유실 후 재시도)
+    private boolean isConcurrentRotation(RefreshToken stored, Instant now) {
+        if (stored.getReplacedBy() == null) return false;
+        if (!now.isBefore(stored.getRevokedAt().plus(authProperties.getToken().getRefreshReuseGrace()))) return false;
+        return refreshTokenRepository.findById(stored.getReplacedBy())
+                .map(successor -> successor.isActive(now))
+                .orElse(false);
+    }
+
+    // 로그아웃 (이 기기만)
+    @Transactional
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) return;
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(stored -> stored.revoke(Instant.now()));
+    }
+
+    // 모든 기기에서 로그아웃 (이미 발급된 접근 토큰은 만료(access-ttl)까지 유효)
+    @Transactional
+    public int revokeAll(Long memberId) {
+        return refreshTokenRepository.revokeAllByMemberId(memberId, Instant.now());
+    }
+
+    // 서명/만료가 검증된 접근 토큰 -> 로그인 회원 정보 (비밀번호 없음)
+    public static MemberPrincipal toPrincipal(Jwt jwt) {
+        return new MemberPrincipal(new CachedMember(
+                Long.valueOf(jwt.getSubject()),
+                jwt.getClaimAsString(CLAIM_EMAIL),
+                null,
+                jwt.getClaimAsString(CLAIM_NICKNAME),
+                Role.valueOf(jwt.getClaimAsString(CLAIM_ROLE))));
+    }
+
+    private Optional<CachedMember> loadMember(Long memberId) {
+        return memberRepository.findById(memberId).map(CachedMember::from);
+    }
+
+    private IssuedToken encodeAccess(CachedMember member, Instant now) {
+        AuthProperties.Token token = authProperties.getToken();
+        Instant expiresAt = now.plus(token.getAccessTtl());
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(token.getIssuer())
+                .subject(String.valueOf(member.id()))
+                .issuedAt(now)
+                .expiresAt(expiresAt)
+                .claim(CLAIM_EMAIL, member.email())
+                .claim(CLAIM_NICKNAME, member.nickname())
+                .claim(CLAIM_ROLE, member.role().name())
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String value = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new IssuedToken(value, expiresAt);
+    }
+
+    // replaced 가 있으면 새 토큰으로 교체된 것으로 기록
+    private IssuedToken newRefresh(Long memberId, Instant now, RefreshToken replaced) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant expiresAt = now.plus(authProperties.getToken().getRefreshTtl());
+
+        RefreshToken saved = refreshTokenRepository.save(RefreshToken.builder()
+                .memberId(memberId)
+                .tokenHash(hash(value))
+                .expiresAt(expiresAt)
+                .build());
+        if (replaced != null) replaced.rotate(now, saved.getId());
+        return new IssuedToken(value, expiresAt);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰 값과 만료 시각
+    public record IssuedToken(String value, Instant expiresAt) {
+    }
+
+    // refresh 는 grace 안의 재사용이면 null (기존 재발급 토큰을 계속 사용)
+    public record IssuedTokens(IssuedToken access, IssuedToken refresh) {
+    }
+}
@@ -4,10 +4,12 @@ import com.example.filtertoday.common.Role;
 import com.example.filtertoday.member.dto.MemberSignupDto;
 import com.example.filtertoday.member.entity.Member;
 import com.example.filtertoday.member.repository.MemberRepository;
+import com.example.filtertoday.member.security.CachedMember;
+import com.example.filtertoday.member.security.MemberCache;
+import com.example.filtertoday.member.security.MemberPrincipal;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -20,6 +22,7 @@ public class MemberService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberCache memberCache;
 
     public Member getMember(String email) {
         return memberRepository.findByEmail(email)
@@ -38,17 +41,28 @@ public class MemberService implements UserDetailsService {
         memberRepository.save(member);
     }
 
+    // 닉네임 변경 (회원 캐시는 커밋된 뒤에 비움)
+    @Transactional
+    public void changeNickname(Long memberId, String nickname) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new EntityNotFoundException("회원 없음"));
+        member.setNickname(nickname);
+        memberCache.invalidate(member.getEmail());
+    }
+
+    public String getNickname(String email) {
+        return memberCache.get(email)
+                .map(CachedMember::nickname)
+                .orElse("사용자"); // 없으면 기본값
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 1) DB에서 이메일로 회원 조회
-        Member member = memberRepository.findByEmail(email)
+        // 1) 회원 캐시(없으면 DB)에서 이메일로 회원 조회
+        CachedMember member = memberCache.get(email)
                 .orElseThrow(() -> new UsernameNotFoundException(email));
 
-        // 2) 찾은 회원 정보를 스프링 시큐리티가 이해할 수 있는 UserDetails 객체로 변환해서 반환
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword()) // DB에 저장된 암호화된 비밀번호
-                .roles(member.getRole().name()) // 예: "USER" -> 자동으로 "ROLE_USER"로 인식됨
-                .build();
+        // 2) memberId/닉네임까지 담은 UserDetails 로 변환해서 반환 (세션에 저장됨)
+        return new MemberPrincipal(member);
     }
 }
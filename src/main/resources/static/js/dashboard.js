@@ -2,6 +2,7 @@
 
 let currentYear = new Date().getFullYear();
 let currentMonth = new Date().getMonth() + 1;
+let currentKeywords = []; // /api/dashboard 로 받은 이번 달 키워드 (워드 클라우드용)
 
 // 1. 공통 헬퍼 함수
 async function fetchData(url) {
@@ -30,10 +31,9 @@ document.addEventListener('DOMContentLoaded', () => {
         document.getElementById('month-select').addEventListener('change', handlePeriodChange);
     }
 
+    // 닉네임도 대시보드 응답에 포함
     loadDashboardData(currentYear, currentMonth);
 
-    updateUserNickname();
-
     if (typeof attachDiaryFormEvents === 'function') {
         attachDiaryFormEvents();
     }
@@ -77,12 +77,23 @@ function handlePeriodChange() {
 async function loadDashboardData(year, month) {
     const monthStr = month.toString().padStart(2, '0');
 
-    const heatmapData = await fetchData(`/api/analysis/tonemap?year=${year}&month=${monthStr}`);
+    // 톤 맵 + 통계 + 키워드 + 닉네임을 요청 한 번으로
+    const dashboard = await fetchData(`/api/dashboard?year=${year}&month=${monthStr}`);
+
+    // 간단 모드(본문 제외) 배열을 날짜 키로 바꿔서 사용
+    const heatmapData = {};
+    if (Array.isArray(dashboard.toneMap)) {
+        dashboard.toneMap.forEach(day => heatmapData[day.date] = day);
+    }
     renderHueMap(year, month, heatmapData);
 
-    //통계 데이터 로드 부분이 있다면 유지
-    const statsData = await fetchData(`/api/analysis/stats?year=${year}&month=${monthStr}`);
-    if (typeof updateChart === 'function') updateChart(statsData);
+    if (typeof updateChart === 'function') updateChart(dashboard.stats || []);
+
+    currentKeywords = dashboard.keywords || [];
+    if (dashboard.nickname) {
+        const headerSpan = document.getElementById('current-user-nickname');
+        if (headerSpan) headerSpan.innerText = dashboard.nickname;
+    }
 
     document.getElementById('wordcloud-section').style.display = 'none';
 }
@@ -136,9 +147,14 @@ function renderHueMap(year, month, heatmapData) {
         // 일기 데이터가 있으면 표시
         if (data) {
             block.style.backgroundColor = data.hexCode;
-            block.title = data.content;
+            block.title = data.content || '';
             block.classList.add('has-diary');
 
+            // 본문은 처음 마우스를 올렸을 때만 불러옴
+            if (!data.content) {
+                block.addEventListener('mouseenter', () => loadMemoPreview(block, dateKey), { once: true });
+            }
+
             if (data.content) {
                 const memoDiv = document.createElement('div');
                 memoDiv.className = 'memo-preview';
@@ -177,23 +193,25 @@ function renderHueMap(year, month, heatmapData) {
         grid.appendChild(block);
     }
 }
-async function updateUserNickname() {
+// 톤 맵 칸의 일기 본문을 필요할 때 조회
+async function loadMemoPreview(block, dateKey) {
     try {
-        // 컨트롤러에 닉네임 요청
-        const response = await fetch('/api/diary/nickname', { credentials: 'include' });
-        if (response.ok) {
-            const nickname = await response.text(); // 닉네임 텍스트 받기
-
-            // 헤더의 이름 부분 변경
-            const headerSpan = document.getElementById('current-user-nickname');
-            if (headerSpan) {
-                headerSpan.innerText = nickname; // "길동"으로 변경
-            }
-        }
+        const response = await fetch(`/api/diary?recordDate=${dateKey}`, { credentials: 'include' });
+        if (response.status !== 200) return;
+
+        const diary = await response.json();
+        if (!diary.content || block.classList.contains('future-day')) return;
+
+        block.title = diary.content;
+        const memoDiv = document.createElement('div');
+        memoDiv.className = 'memo-preview';
+        memoDiv.innerText = diary.content;
+        block.appendChild(memoDiv);
     } catch (e) {
-        console.error("닉네임 로드 실패", e);
+        console.error("일기 미리보기 로드 실패", e);
     }
 }
+
 async function openWordCloud() {
     const section = document.getElementById('wordcloud-section');
     section.style.display = 'flex';
@@ -210,10 +228,8 @@ async function openWordCloud() {
 
     section.scrollIntoView({ behavior: 'smooth' });
 
-    const monthStr = currentMonth.toString().padStart(2, '0');
-    const keywordData = await fetchData(`/api/diary/analysis/keywords?year=${currentYear}&month=${monthStr}`);
-
-    renderWordCloud(keywordData);
+    // 대시보드를 불러올 때 함께 받은 키워드 사용 (추가 요청 없음)
+    renderWordCloud(currentKeywords);
 }
 
 function renderWordCloud(keywords) {
@@ -157,6 +157,14 @@ function submitDiarySave(content, hexCode) {
     })
         .then(async response => {
             if (response.ok) {
+                const saved = await response.json();
+
+                // AI 분석이 필요한 경우 서버는 먼저 저장만 하고 분석은 백그라운드에서 진행
+                if (saved.analysisStatus === 'PENDING') {
+                    document.getElementById('save-diary-btn').textContent = '감정 분석 중...⏳';
+                    await waitForAnalysis(saved.diaryId);
+                }
+
                 alert("성공적으로 저장되었습니다!");
                 window.location.reload(); // 저장 후 새로고침하여 캘린더 반영
             } else {
@@ -166,6 +174,23 @@ function submitDiarySave(content, hexCode) {
         });
 }
 
+// 비동기 감정 분석이 끝날 때까지 상태 확인 (최대 약 15초, 넘으면 일단 새로고침)
+async function waitForAnalysis(diaryId) {
+    for (let i = 0; i < 15; i++) {
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        try {
+            const response = await fetch(`/api/diary/${diaryId}/analysis`, { credentials: 'include' });
+            if (!response.ok) return;
+
+            const status = await response.json();
+            if (status.analysisStatus !== 'PENDING') return status;
+        } catch (e) {
+            console.error("분석 상태 확인 실패:", e);
+            return;
+        }
+    }
+}
+
 // -----------------------------------------------------------
 // 5. 삭제 함수
 // -----------------------------------------------------------
@@ -0,0 +1,106 @@
+package com.example.filtertoday.analysis.controller;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.member.entity.Member;
+import com.example.filtertoday.member.repository.MemberRepository;
+import com.example.filtertoday.member.security.CachedMember;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 분석 응답의 ETag 가 DB 의 월 버전을 따라가는지 확인
+// 저장하면 ETag 가 바뀌고, 그대로면 If-None-Match 에 304
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis-etag;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "index.rebuild-if-empty=false"
+})
+@AutoConfigureMockMvc
+class AnalysisEtagTest {
+
+    private static final String STATS = "/api/analysis/stats?year=2025&month=3";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private MemberPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.findByEmail("etag@test.com")
+                .orElseGet(() -> memberRepository.save(Member.builder()
+                        .email("etag@test.com")
+                        .password("pw")
+                        .nickname("etag")
+                        .build()));
+        principal = new MemberPrincipal(CachedMember.from(member));
+    }
+
+    @Test
+    void unchangedMonthGetsNotModified() throws Exception {
+        save("2025-03-01", EmotionType.JOY);
+        String etag = statsEtag(null, 200);
+
+        assertThat(statsEtag(etag, 304)).isEqualTo(etag);
+    }
+
+    @Test
+    void saveChangesEtag() throws Exception {
+        save("2025-03-02", EmotionType.JOY);
+        String before = statsEtag(null, 200);
+
+        save("2025-03-02", EmotionType.ANGER); // 같은 날짜 덮어쓰기
+        String after = statsEtag(before, 200);
+
+        assertThat(after).isNotEqualTo(before);
+        assertThat(statsEtag(after, 304)).isEqualTo(after);
+    }
+
+    @Test
+    void otherMonthKeepsEtag() throws Exception {
+        save("2025-03-03", EmotionType.CALM);
+        String etag = statsEtag(null, 200);
+
+        save("2025-04-01", EmotionType.SADNESS);
+
+        statsEtag(etag, 304);
+    }
+
+    private void save(String date, EmotionType emotion) throws Exception {
+        String body = "{\"recordDate\":\"" + date + "\",\"content\":\"산책\",\"hexCode\":\""
+                + emotion.getRepresentativeHexCode() + "\"}";
+        mockMvc.perform(post("/api/diary")
+                        .with(user(principal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+    }
+
+    private String statsEtag(String ifNoneMatch, int expectedStatus) throws Exception {
+        var request = get(STATS).with(user(principal));
+        if (ifNoneMatch != null) request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        String etag = mockMvc.perform(request)
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.filtertoday.analysis.service;
+
+import com.example.filtertoday.analysis.dto.EmotionStreakDto;
+import com.example.filtertoday.analysis.dto.EmotionTrendBucketDto;
+import com.example.filtertoday.analysis.dto.EmotionTrendResponseDto;
+import com.example.filtertoday.analysis.dto.RollingDominantDto;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.KeywordRange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 번 훑는 EmotionTrendAccumulator 결과를 날짜마다 전부 다시 세는 단순 계산과 비교 (표 형식)
+// 달/해를 넘는 이동 창, 시작일 이전(이동 창용) 기록, 일기가 없는 날과 구간을 포함
+class EmotionTrendAccumulatorTest {
+
+    static Stream<Case> cases() {
+        return Stream.of(
+                new Case("일기 없음", "2025-03-01", "2025-03-31", KeywordRange.WEEK),
+                new Case("시작일 이전 기록만 (이동 창에만 반영)", "2025-03-01", "2025-03-10", KeywordRange.MONTH,
+                        "2025-02-26:ANGER", "2025-02-27:ANGER", "2025-02-28:ANGER"),
+                new Case("이동 창이 달을 넘음", "2025-03-01", "2025-03-15", KeywordRange.WEEK,
+                        "2025-02-24:SADNESS", "2025-02-25:SADNESS", "2025-02-27:SADNESS", "2025-02-28:SADNESS",
+                        "2025-03-01:JOY", "2025-03-02:JOY", "2025-03-05:JOY", "2025-03-06:JOY"),
+                new Case("이동 창이 해를 넘음", "2025-01-01", "2025-01-20", KeywordRange.MONTH,
+                        "2024-12-05:CALM", "2024-12-30:TIRED", "2024-12-31:TIRED", "2025-01-01:TIRED",
+                        "2025-01-02:JOY", "2025-01-10:JOY", "2025-01-11:STRESS"),
+                new Case("윤년 2월을 지나는 월 구간", "2024-02-15", "2024-03-05", KeywordRange.MONTH,
+                        "2024-02-28:PROUD", "2024-02-29:PROUD", "2024-03-01:PROUD", "2024-03-03:CALM"),
+                new Case("빈 날이 연속 기록을 끊음", "2025-05-01", "2025-05-10", KeywordRange.WEEK,
+                        "2025-05-01:CALM", "2025-05-02:CALM", "2025-05-04:CALM", "2025-05-05:CALM", "2025-05-06:CALM"),
+                new Case("같은 길이 연속 기록은 최근 것", "2025-06-01", "2025-06-10", KeywordRange.YEAR,
+                        "2025-06-01:JOY", "2025-06-02:JOY", "2025-06-04:JOY", "2025-06-05:JOY"),
+                new Case("동점이면 선언 순서가 앞선 감정", "2025-07-01", "2025-07-03", KeywordRange.WEEK,
+                        "2025-07-01:SADNESS", "2025-07-02:JOY"),
+                new Case("하루 구간", "2025-08-15", "2025-08-15", KeywordRange.MONTH, "2025-08-15:EXCITEMENT"),
+                new Case("임의 기록 (주 단위)", "2025-01-20", "2025-05-10", KeywordRange.WEEK, random(1)),
+                new Case("임의 기록 (월 단위)", "2024-11-03", "2025-04-27", KeywordRange.MONTH, random(2)),
+                new Case("임의 기록 (연 단위)", "2024-10-01", "2025-02-28", KeywordRange.YEAR, random(3))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("cases")
+    void matchesRecount(Case c) {
+        assertThat(run(c))
+                .usingRecursiveComparison()
+                .isEqualTo(expected(c));
+    }
+
+    @Test
+    void windowCrossingMonthCountsLookbackDays() {
+        Case c = new Case("", "2025-03-01", "2025-03-02", KeywordRange.MONTH,
+                "2025-02-25:ANGER", "2025-02-26:ANGER", "2025-03-01:JOY");
+        EmotionTrendResponseDto trend = run(c);
+
+        // 3/1 의 최근 7일 = 2/23 ~ 3/1 -> ANGER 2, JOY 1
+        assertThat(trend.getRolling().get(0).getEmotions()).containsExactly(EmotionType.ANGER, EmotionType.ANGER);
+        // 분포/연속 기록은 시작일부터만
+        assertThat(trend.getBuckets()).singleElement()
+                .satisfies(bucket -> assertThat(bucket.getCounts()).containsExactly(Map.entry(EmotionType.JOY, 1)));
+        assertThat(trend.getStreaks()).singleElement()
+                .satisfies(streak -> assertThat(streak.getEmotionType()).isEqualTo(EmotionType.JOY));
+    }
+
+    @Test
+    void streakContinuesAcrossMonthBoundary() {
+        Case c = new Case("", "2025-01-01", "2025-02-28", KeywordRange.MONTH,
+                "2025-01-30:CALM", "2025-01-31:CALM", "2025-02-01:CALM", "2025-02-02:CALM");
+        EmotionTrendResponseDto trend = run(c);
+
+        assertThat(trend.getLatestStreak().getDays()).isEqualTo(4);
+        assertThat(trend.getLatestStreak().getStartDate()).isEqualTo(LocalDate.of(2025, 1, 30));
+        assertThat(trend.getBuckets()).extracting(EmotionTrendBucketDto::getTotal).containsExactly(2, 2);
+    }
+
+    @Test
+    void daysWithoutDiaryHaveNoDominant() {
+        Case c = new Case("", "2025-04-01", "2025-04-30", KeywordRange.WEEK, "2025-04-01:JOY");
+        EmotionTrendResponseDto trend = run(c);
+
+        List<EmotionType> weekly = trend.getRolling().get(0).getEmotions();
+        assertThat(weekly).hasSize(30);
+        assertThat(weekly.subList(0, 7)).containsOnly(EmotionType.JOY);
+        assertThat(weekly.subList(7, 30)).containsOnlyNulls();
+        // 4/1(화)이 속한 주부터 4/30 까지 5개 구간, 일기가 없는 구간도 total 0
+        assertThat(trend.getBuckets()).extracting(EmotionTrendBucketDto::getTotal).containsExactly(1, 0, 0, 0, 0);
+    }
+
+    private static EmotionTrendResponseDto run(Case c) {
+        EmotionTrendAccumulator accumulator = new EmotionTrendAccumulator(c.start, c.end, c.unit);
+        c.diaries.forEach(accumulator::accept);
+        return accumulator.finish();
+    }
+
+    // 날짜/창마다 처음부터 다시 세는 계산
+    private static EmotionTrendResponseDto expected(Case c) {
+        List<EmotionTrendBucketDto> buckets = new ArrayList<>();
+        for (LocalDate from = c.start; !from.isAfter(c.end); ) {
+            LocalDate end = c.unit.endDate(from);
+            LocalDate to = end.isAfter(c.end) ? c.end : end;
+            Map<EmotionType, Integer> counts = count(c.diaries, from, to);
+            buckets.add(new EmotionTrendBucketDto(from, to,
+                    counts.values().stream().mapToInt(Integer::intValue).sum(), counts));
+            from = to.plusDays(1);
+        }
+
+        List<RollingDominantDto> rolling = new ArrayList<>();
+        for (int days : EmotionTrendAccumulator.WINDOW_DAYS) {
+            List<EmotionType> emotions = new ArrayList<>();
+            for (LocalDate date = c.start; !date.isAfter(c.end); date = date.plusDays(1)) {
+                emotions.add(dominant(count(c.diaries, date.minusDays(days - 1), date)));
+            }
+            rolling.add(new RollingDominantDto(days, c.start, emotions));
+        }
+
+        Map<EmotionType, EmotionStreakDto> longest = new EnumMap<>(EmotionType.class);
+        EmotionStreakDto run = null;
+        for (Map.Entry<LocalDate, EmotionType> diary : c.diaries.tailMap(c.start).entrySet()) {
+            LocalDate date = diary.getKey();
+            if (run != null && run.getEmotionType() == diary.getValue() && run.getEndDate().plusDays(1).equals(date)) {
+                run = new EmotionStreakDto(run.getEmotionType(), run.getDays() + 1, run.getStartDate(), date);
+            } else {
+                run = new EmotionStreakDto(diary.getValue(), 1, date, date);
+            }
+            EmotionStreakDto best = longest.get(run.getEmotionType());
+            if (best == null || run.getDays() >= best.getDays()) longest.put(run.getEmotionType(), run);
+        }
+
+        return EmotionTrendResponseDto.builder()
+                .startDate(c.start)
+                .endDate(c.end)
+                .unit(c.unit)
+                .buckets(buckets)
+                .rolling(rolling)
+                .streaks(List.copyOf(longest.values()))
+                .latestStreak(run)
+                .build();
+    }
+
+    private static Map<EmotionType, Integer> count(TreeMap<LocalDate, EmotionType> diaries, LocalDate from, LocalDate to) {
+        Map<EmotionType, Integer> counts = new EnumMap<>(EmotionType.class);
+        diaries.subMap(from, true, to, true).values().forEach(type -> counts.merge(type, 1, Integer::sum));
+        return counts;
+    }
+
+    // 가장 많은 감정, 동점이면 선언 순서가 앞선 감정 (EnumMap 은 선언 순서)
+    private static EmotionType dominant(Map<EmotionType, Integer> counts) {
+        EmotionType best = null;
+        for (Map.Entry<EmotionType, Integer> entry : counts.entrySet()) {
+            if (best == null || entry.getValue() > counts.get(best)) best = entry.getKey();
+        }
+        return best;
+    }
+
+    // 날짜 절반쯤에 임의 감정 (몇 가지 감정만 써서 연속 기록이 생기도록)
+    private static String[] random(long seed) {
+        Random random = new Random(seed);
+        EmotionType[] types = {EmotionType.JOY, EmotionType.CALM, EmotionType.TIRED};
+        List<String> diaries = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2024, 9, 1); date.isBefore(LocalDate.of(2025, 6, 1)); date = date.plusDays(1)) {
+            if (random.nextInt(3) > 0) diaries.add(date + ":" + types[random.nextInt(types.length)]);
+        }
+        return diaries.toArray(String[]::new);
+    }
+
+    // diaries: "yyyy-MM-dd:EMOTION". 서비스처럼 시작일 - WINDOW_LOOKBACK_DAYS ~ 종료일 기록만 날짜순으로 넘김
+    record Case(String name, LocalDate start, LocalDate end, KeywordRange unit, TreeMap<LocalDate, EmotionType> diaries) {
+
+        Case(String name, String start, String end, KeywordRange unit, String... diaries) {
+            this(name, LocalDate.parse(start), LocalDate.parse(end), unit, parse(LocalDate.parse(start), LocalDate.parse(end), diaries));
+        }
+
+        private static TreeMap<LocalDate, EmotionType> parse(LocalDate start, LocalDate end, String... diaries) {
+            TreeMap<LocalDate, EmotionType> parsed = new TreeMap<>();
+            for (String diary : diaries) {
+                String[] parts = diary.split(":");
+                parsed.put(LocalDate.parse(parts[0]), EmotionType.valueOf(parts[1]));
+            }
+            return new TreeMap<>(parsed.subMap(start.minusDays(EmotionTrendAccumulator.WINDOW_LOOKBACK_DAYS), true, end, true));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
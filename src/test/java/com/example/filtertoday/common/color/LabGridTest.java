@@ -0,0 +1,163 @@
+package com.example.filtertoday.common.color;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// LabGrid.nearest 를 모든 점의 거리를 구해 정렬한 결과(전수 비교)와 맞춰 봄
+// 점이 적으면 색이 있는 칸을 직접 훑고, 많으면 껍질을 넓혀 가므로 두 경우 모두 확인
+class LabGridTest {
+
+    private static final Comparator<Integer> TIE_BREAK = Comparator.naturalOrder();
+
+    @Test
+    void emptyGridReturnsNothing() {
+        LabGrid<Integer> grid = new LabGrid<>(TIE_BREAK);
+
+        assertThat(grid.nearest(0xFF0000, 5, null)).isEmpty();
+        assertThat(grid.size()).isZero();
+    }
+
+    @Test
+    void kLargerThanSizeReturnsEveryPointInOrder() {
+        Map<Integer, Integer> colors = Map.of(1, 0xFF0000, 2, 0x00FF00, 3, 0x0000FF);
+        LabGrid<Integer> grid = grid(colors);
+
+        List<LabGrid.Neighbor<Integer>> result = grid.nearest(0xFF1010, 10, null);
+
+        assertThat(result).hasSize(3);
+        assertThat(result).isEqualTo(bruteForce(colors, 0xFF1010, 10, null));
+        assertThat(result.get(0).key()).isEqualTo(1);
+    }
+
+    @Test
+    void matchesBruteForceOnFewPoints() {
+        Random random = new Random(7);
+        Map<Integer, Integer> colors = randomColors(random, 30);
+        assertMatches(grid(colors), colors, random);
+    }
+
+    @Test
+    void matchesBruteForceOnManyPoints() {
+        Random random = new Random(42);
+        Map<Integer, Integer> colors = randomColors(random, 3_000);
+        assertMatches(grid(colors), colors, random);
+    }
+
+    @Test
+    void matchesBruteForceAcrossCellBoundaries() {
+        // 회색 256단계: L 이 0..100 을 촘촘히 지나가므로 칸 경계(10 단위) 양쪽에 점이 놓임
+        Map<Integer, Integer> colors = new HashMap<>();
+        for (int level = 0; level < 256; level++) {
+            colors.put(level, (level << 16) | (level << 8) | level);
+        }
+        // 같은 색 두 개 -> 거리가 같으면 tieBreak 순서
+        colors.put(1_000, 0x808080);
+        LabGrid<Integer> grid = grid(colors);
+
+        for (int level = 0; level < 256; level++) {
+            int query = (level << 16) | (level << 8) | level;
+            for (int k : new int[]{1, 3, 10}) {
+                assertThat(grid.nearest(query, k, null)).isEqualTo(bruteForce(colors, query, k, null));
+                assertThat(grid.nearest(query, k, level)).isEqualTo(bruteForce(colors, query, k, level));
+            }
+        }
+        // 회색 주변 색 (a/b 칸 경계)
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            int gray = random.nextInt(256);
+            int query = (clamp(gray + random.nextInt(21) - 10) << 16)
+                    | (clamp(gray + random.nextInt(21) - 10) << 8)
+                    | clamp(gray + random.nextInt(21) - 10);
+            assertThat(grid.nearest(query, 5, null)).isEqualTo(bruteForce(colors, query, 5, null));
+        }
+    }
+
+    @Test
+    void matchesBruteForceAfterUpdatesAndRemovals() {
+        Random random = new Random(11);
+        Map<Integer, Integer> colors = randomColors(random, 500);
+        LabGrid<Integer> grid = grid(colors);
+
+        for (int key = 0; key < 500; key += 3) {
+            grid.remove(key);
+            colors.remove(key);
+        }
+        for (int key = 1; key < 500; key += 5) {
+            int rgb = random.nextInt(0x1000000);
+            grid.put(key, hex(rgb));
+            colors.put(key, rgb);
+        }
+        grid.put(1, "잘못된 색"); // 형식이 틀리면 삭제
+        colors.remove(1);
+
+        assertThat(grid.size()).isEqualTo(colors.size());
+        assertMatches(grid, colors, random);
+    }
+
+    private static void assertMatches(LabGrid<Integer> grid, Map<Integer, Integer> colors, Random random) {
+        List<Integer> keys = new ArrayList<>(colors.keySet());
+        for (int i = 0; i < 300; i++) {
+            int query = random.nextInt(0x1000000);
+            int k = 1 + random.nextInt(20);
+            Integer exclude = i % 2 == 0 ? keys.get(random.nextInt(keys.size())) : null;
+
+            assertThat(grid.nearest(query, k, exclude))
+                    .as("query #%06X, k=%d, exclude=%s", query, k, exclude)
+                    .isEqualTo(bruteForce(colors, query, k, exclude));
+        }
+    }
+
+    // LabGrid 와 같은 계산(float Lab, ΔE76)으로 모든 점의 거리를 구해 정렬
+    private static List<LabGrid.Neighbor<Integer>> bruteForce(Map<Integer, Integer> colors, int query, int k,
+                                                              Integer exclude) {
+        float[] target = lab(query);
+        List<LabGrid.Neighbor<Integer>> all = new ArrayList<>();
+        colors.forEach((key, rgb) -> {
+            if (key.equals(exclude)) return;
+            float[] point = lab(rgb);
+            float dl = target[0] - point[0];
+            float da = target[1] - point[1];
+            float db = target[2] - point[2];
+            all.add(new LabGrid.Neighbor<>(key, rgb, Math.sqrt(dl * dl + da * da + db * db)));
+        });
+        all.sort(Comparator.<LabGrid.Neighbor<Integer>>comparingDouble(LabGrid.Neighbor::distance)
+                .thenComparing(LabGrid.Neighbor::key, TIE_BREAK));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    private static LabGrid<Integer> grid(Map<Integer, Integer> colors) {
+        LabGrid<Integer> grid = new LabGrid<>(TIE_BREAK);
+        colors.forEach((key, rgb) -> grid.put(key, hex(rgb)));
+        return grid;
+    }
+
+    private static Map<Integer, Integer> randomColors(Random random, int count) {
+        Map<Integer, Integer> colors = new HashMap<>();
+        for (int key = 0; key < count; key++) {
+            colors.put(key, random.nextInt(0x1000000));
+        }
+        return colors;
+    }
+
+    private static float[] lab(int rgb) {
+        float[] lab = new float[3];
+        CieLab.fromRgb(rgb, lab, 0);
+        return lab;
+    }
+
+    private static String hex(int rgb) {
+        return String.format("#%06X", rgb);
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
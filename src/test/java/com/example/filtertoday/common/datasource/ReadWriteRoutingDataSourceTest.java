@@ -0,0 +1,156 @@
+package com.example.filtertoday.common.datasource;
+
+import com.example.filtertoday.common.Role;
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.config.AsyncConfig;
+import com.example.filtertoday.config.ReplicaDataSourceConfig;
+import com.example.filtertoday.member.security.CachedMember;
+import com.example.filtertoday.member.security.MemberPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 DB 두 개(주 DB / 복제본)에 서로 다른 표시 값을 넣고, 트랜잭션 종류별로 어느 쪽을 읽는지 확인
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicReference<Long> currentMember = new AtomicReference<>();
+
+    private DataSource primary;
+    private DataSource replica;
+    private RecentWrites recentWrites;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing-primary", "primary");
+        replica = database("routing-replica", "replica");
+        recentWrites = new RecentWrites(MAX_LAG, nanos::get);
+        route(currentMember::get);
+    }
+
+    @AfterEach
+    void clearLogin() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void route(Supplier<Long> memberId) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, recentWrites, memberId);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(read(true, "service.read")).isEqualTo("replica");
+        assertThat(read(false, "service.write")).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void memberReadsOwnWritesUntilMaxLagPasses() {
+        currentMember.set(1L);
+        write();
+        assertThat(read(true, "service.read")).isEqualTo("primary");
+
+        currentMember.set(2L); // 다른 회원은 계속 복제본
+        assertThat(read(true, "service.read")).isEqualTo("replica");
+
+        currentMember.set(1L);
+        nanos.addAndGet(MAX_LAG.plusMillis(1).toNanos());
+        assertThat(read(true, "service.read")).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinMemberToPrimary() {
+        currentMember.set(1L);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(read(true, "service.read")).isEqualTo("replica");
+    }
+
+    @Test
+    void repositoryDefaultReadOnlyTransactionUsesPrimary() {
+        assertThat(read(true, "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById"))
+                .isEqualTo("primary");
+    }
+
+    // 대시보드 키워드 조회처럼 dashboardExecutor 작업 안의 읽기도 요청한 회원의 최근 쓰기를 따라 주 DB
+    @Test
+    void dashboardExecutorTaskReadsOwnWrites() throws Exception {
+        route(ReplicaDataSourceConfig::currentMemberId); // 실제 설정처럼 로그인 정보에서 회원 id
+        AsyncTaskExecutor executor = new AsyncConfig(new AiProperties(), new MockEnvironment()).dashboardExecutor();
+        if (executor instanceof InitializingBean bean) bean.afterPropertiesSet();
+        try {
+            login(1L);
+            write();
+            assertThat(CompletableFuture.supplyAsync(() -> read(true, "service.read"), executor).join())
+                    .isEqualTo("primary");
+
+            login(2L); // 쓰지 않은 회원의 작업은 복제본
+            assertThat(CompletableFuture.supplyAsync(() -> read(true, "service.read"), executor).join())
+                    .isEqualTo("replica");
+        } finally {
+            if (executor instanceof DisposableBean bean) bean.destroy();
+        }
+    }
+
+    private static void login(Long memberId) {
+        MemberPrincipal principal = new MemberPrincipal(
+                new CachedMember(memberId, "member" + memberId + "@test.com", "pw", "회원", Role.USER));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    private String read(boolean readOnly, String name) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setName(name);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE marker SET name = name"));
+    }
+
+    private static DataSource database(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS marker");
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
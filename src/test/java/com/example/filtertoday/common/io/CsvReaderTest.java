@@ -0,0 +1,76 @@
+package com.example.filtertoday.common.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainAndQuotedFields() throws IOException {
+        List<List<String>> records = readAll("a,b,c\n1,\"x, y\",\"say \"\"hi\"\"\"\n");
+
+        assertThat(records).containsExactly(
+                List.of("a", "b", "c"),
+                List.of("1", "x, y", "say \"hi\""));
+    }
+
+    @Test
+    void quotedFieldMaySpanLines() throws IOException {
+        List<List<String>> records = readAll("d,content\r\n2025-01-01,\"첫 줄\r\n둘째 줄\"\r\n2025-01-02,끝");
+
+        assertThat(records).containsExactly(
+                List.of("d", "content"),
+                List.of("2025-01-01", "첫 줄\r\n둘째 줄"),
+                List.of("2025-01-02", "끝"));
+    }
+
+    @Test
+    void emptyFieldsAndBlankLine() throws IOException {
+        List<List<String>> records = readAll(",,\n\nx\n");
+
+        assertThat(records).containsExactly(List.of("", "", ""), List.of(""), List.of("x"));
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(new CsvReader(new StringReader("")).readRecord()).isNull();
+    }
+
+    @Test
+    void unclosedQuoteReportsRecordNumber() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("h1,h2\nok,1\nbad,\"never closed\nstill,open\n"));
+        reader.readRecord();
+        reader.readRecord();
+
+        assertThatThrownBy(reader::readRecord)
+                .isInstanceOf(CsvFormatException.class)
+                .satisfies(e -> assertThat(((CsvFormatException) e).getRecordNumber()).isEqualTo(3));
+    }
+
+    @Test
+    void escapeRoundTrips() throws IOException {
+        String value = "쉼표, \"따옴표\"\n줄바꿈";
+        List<List<String>> records = readAll(CsvReader.escape(value) + "," + CsvReader.escape("plain") + "\n");
+
+        assertThat(CsvReader.escape("plain")).isEqualTo("plain");
+        assertThat(CsvReader.escape(null)).isEmpty();
+        assertThat(records).containsExactly(List.of(value, "plain"));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.config.AiProperties;
+import com.example.filtertoday.diary.dto.AiResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiEmotionBatcherTest {
+
+    @Test
+    void coalescesConcurrentRequestsAndFansOutResultsInOrder() throws Exception {
+        try (StubAiServer server = StubAiServer.start(Duration.ofMillis(50))) {
+            AiEmotionBatcher batcher = newBatcher(server, 8);
+            try {
+                List<CompletableFuture<AiResponseDto>> futures = IntStream.range(0, 32)
+                        .mapToObj(i -> batcher.submit((i % 2 == 0 ? "JOY " : "SADNESS ") + i))
+                        .toList();
+
+                for (int i = 0; i < futures.size(); i++) {
+                    AiResponseDto response = futures.get(i).get(5, TimeUnit.SECONDS);
+                    assertThat(response.getEmotion()).isEqualTo(i % 2 == 0 ? "JOY" : "SADNESS");
+                }
+                assertThat(server.getBatchedItems()).isEqualTo(32);
+                assertThat(server.getBatchCalls()).isLessThan(32);
+                assertThat(server.getSingleCalls()).isZero();
+            } finally {
+                batcher.stop();
+            }
+        }
+    }
+
+    @Test
+    void failsEveryCallerOfABatchWhenTheServerIsUnreachable() throws Exception {
+        String deadUrl;
+        try (StubAiServer server = StubAiServer.start(Duration.ZERO)) {
+            deadUrl = server.baseUrl();
+        }
+        AiProperties properties = batchProperties(4);
+        AiEmotionBatcher batcher = new AiEmotionBatcher(WebClient.create(deadUrl), properties);
+        batcher.start();
+        try {
+            CompletableFuture<AiResponseDto> first = batcher.submit("JOY 1");
+            CompletableFuture<AiResponseDto> second = batcher.submit("JOY 2");
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void rejectsSubmissionsWhenDisabled() {
+        AiEmotionBatcher batcher = new AiEmotionBatcher(WebClient.create("http://127.0.0.1:1"), new AiProperties());
+        batcher.start();
+
+        assertThat(batcher.isEnabled()).isFalse();
+        assertThat(batcher.submit("JOY").isCompletedExceptionally()).isTrue();
+    }
+
+    private AiEmotionBatcher newBatcher(StubAiServer server, int maxSize) {
+        AiEmotionBatcher batcher = new AiEmotionBatcher(WebClient.create(server.baseUrl()), batchProperties(maxSize));
+        batcher.start();
+        return batcher;
+    }
+
+    private AiProperties batchProperties(int maxSize) {
+        AiProperties properties = new AiProperties();
+        properties.getBatch().setEnabled(true);
+        properties.getBatch().setMaxSize(maxSize);
+        properties.getBatch().setMaxWait(Duration.ofMillis(30));
+        return properties;
+    }
+}
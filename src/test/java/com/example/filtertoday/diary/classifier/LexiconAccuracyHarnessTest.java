@@ -0,0 +1,73 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.common.nlp.MorphemeAnalyzer;
+import com.example.filtertoday.config.KomoranProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기록해 둔 AI 서버 분류 결과와 내장 사전 분류기 결과 비교 (./gradlew accuracyTest)
+// 일치율과 감정별 혼동 행렬을 로그로 남기고, lexicon.minAccuracy(기본 0.6)보다 낮으면 실패
+@Tag("accuracy")
+class LexiconAccuracyHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LexiconAccuracyHarnessTest.class);
+
+    private static final String RECORDED_OUTPUTS = "emotion/recorded-ai-outputs.tsv";
+
+    @Test
+    void agreesWithRecordedAiOutputs() throws IOException {
+        LexiconEmotionClassifier classifier = new LexiconEmotionClassifier(new MorphemeAnalyzer(new KomoranProperties()));
+        List<String[]> samples = readSamples();
+
+        Map<EmotionType, Map<EmotionType, Integer>> confusion = new EnumMap<>(EmotionType.class);
+        int agreed = 0;
+        for (String[] sample : samples) {
+            EmotionType expected = EmotionType.valueOf(sample[1]);
+            EmotionType actual = classifier.classify(sample[0]).emotionType();
+
+            confusion.computeIfAbsent(expected, k -> new EnumMap<>(EmotionType.class)).merge(actual, 1, Integer::sum);
+            if (expected == actual) {
+                agreed++;
+            } else {
+                log.debug("불일치 [AI={}, 사전={}] {}", expected, actual, sample[0]);
+            }
+        }
+
+        double accuracy = (double) agreed / samples.size();
+        log.info("사전 분류기 일치율: {}/{} ({}%)", agreed, samples.size(), String.format("%.1f", accuracy * 100));
+        confusion.forEach((expected, row) -> log.info("  {} -> {}", expected, row));
+
+        double minAccuracy = Double.parseDouble(System.getProperty("lexicon.minAccuracy", "0.6"));
+        assertThat(accuracy)
+                .as("사전 분류기 일치율 %d/%d", agreed, samples.size())
+                .isGreaterThanOrEqualTo(minAccuracy);
+    }
+
+    private List<String[]> readSamples() throws IOException {
+        List<String[]> samples = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RECORDED_OUTPUTS).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                samples.add(line.split("\t"));
+            }
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.filtertoday.diary.classifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 파이썬 AI 서버 흉내 (/analyze, /analyze_batch)
+// 호출 한 번마다 고정 지연(모델 추론 오버헤드)을 주고, 내용이 감정 이름으로 시작하면 그 감정을 돌려줌
+public class StubAiServer implements AutoCloseable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Duration callLatency;
+
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+    private final AtomicInteger batchedItems = new AtomicInteger();
+
+    private StubAiServer(Duration callLatency) throws IOException {
+        this.callLatency = callLatency;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/analyze", this::handleSingle);
+        server.createContext("/analyze_batch", this::handleBatch);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static StubAiServer start(Duration callLatency) throws IOException {
+        return new StubAiServer(callLatency);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getSingleCalls() {
+        return singleCalls.get();
+    }
+
+    public int getBatchCalls() {
+        return batchCalls.get();
+    }
+
+    public int getBatchedItems() {
+        return batchedItems.get();
+    }
+
+    private void handleSingle(HttpExchange exchange) throws IOException {
+        singleCalls.incrementAndGet();
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        simulateInference();
+        respond(exchange, classify(body.get("content").asText()));
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        batchCalls.incrementAndGet();
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (JsonNode content : body.get("contents")) {
+            results.add(classify(content.asText()));
+        }
+        batchedItems.addAndGet(results.size());
+        simulateInference();
+        respond(exchange, results);
+    }
+
+    private Map<String, Object> classify(String content) {
+        String emotion = content.contains(" ") ? content.substring(0, content.indexOf(' ')) : content;
+        if (!emotion.chars().allMatch(Character::isUpperCase)) emotion = "NORMAL";
+        return Map.of("emotion", emotion, "score", 0.9, "korean_label", emotion);
+    }
+
+    private void simulateInference() {
+        try {
+            Thread.sleep(callLatency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.filtertoday.diary.repository;
+
+import com.example.filtertoday.common.EmotionType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자주 쓰는 일기 조회가 인덱스를 타는지 내장 DB(H2, MySQL 모드)의 EXPLAIN 으로 확인
+// Hibernate 가 실제로 만든 SQL 을 가로채서 그대로 EXPLAIN 하므로 쿼리/엔티티가 바뀌어도 함께 검사됨
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.filtertoday.diary.repository.DiaryQueryPlanTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DiaryQueryPlanTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+    private static final String EMAIL = "member3@test.com";
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryKeywordRepository diaryKeywordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 통계가 비어 있으면 옵티마이저가 작은 테이블을 전체 스캔하므로 회원 20명 x 일기 100편을 넣고 ANALYZE
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> diaries = new ArrayList<>();
+        for (long memberId = 1; memberId <= 20; memberId++) {
+            members.add(new Object[]{memberId, "member" + memberId + "@test.com", "pw", "user" + memberId, "USER"});
+            for (int day = 0; day < 100; day++) {
+                diaries.add(new Object[]{memberId, Date.valueOf(START.plusDays(day)), "#E0E0E0", "NORMAL", "내용"});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member (member_id, email, password, nickname, role) VALUES (?, ?, ?, ?, ?)", members);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO diary (member_id, record_date, hex_code, emotion_type, content) VALUES (?, ?, ?, ?, ?)",
+                diaries);
+        // 일기마다 키워드 5개 (검색 역색인)
+        for (String term : List.of("산책", "회사", "친구", "저녁", "피곤하다")) {
+            jdbcTemplate.update("INSERT INTO diary_keyword (diary_id, member_id, record_date, term, frequency) " +
+                    "SELECT diary_id, member_id, record_date, ?, 1 FROM diary", term);
+        }
+        jdbcTemplate.execute("ANALYZE");
+        SqlCapture.clear();
+    }
+
+    @Test
+    void findByMemberIdAndRecordDateBetween_usesMemberDateIndex() {
+        diaryRepository.findByMemberIdAndRecordDateBetween(3L, START, END);
+
+        assertIndexed(SqlCapture.last(), 3L, Date.valueOf(START), Date.valueOf(END));
+    }
+
+    @Test
+    void findByMemberIdAndRecordDate_usesMemberDateIndex() {
+        diaryRepository.findByMemberIdAndRecordDate(3L, START);
+
+        assertIndexed(SqlCapture.last(), 3L, Date.valueOf(START));
+    }
+
+    @Test
+    void findByMemberEmailAndRecordDate_usesEmailAndMemberDateIndexes() {
+        diaryRepository.findByMemberEmailAndRecordDate(EMAIL, START);
+
+        assertIndexed(SqlCapture.last(), EMAIL, Date.valueOf(START));
+    }
+
+    @Test
+    void findByMemberEmailAndRecordDateBetween_usesEmailAndMemberDateIndexes() {
+        diaryRepository.findByMemberEmailAndRecordDateBetween(EMAIL, START, END);
+
+        assertIndexed(SqlCapture.last(), EMAIL, Date.valueOf(START), Date.valueOf(END));
+    }
+
+    @Test
+    void findToneMap_usesMemberDateIndex() {
+        diaryRepository.findToneMap(3L, START, END);
+
+        assertIndexed(SqlCapture.last(), 3L, Date.valueOf(START), Date.valueOf(END));
+    }
+
+    @Test
+    void search_usesMemberTermIndex() {
+        LocalDate end = START.plusDays(99);
+        diaryKeywordRepository.search(3L, List.of("산책", "친구"), START, end, List.of(EmotionType.NORMAL),
+                Limit.of(20));
+
+        // 파라미터는 SQL 에 나오는 순서대로: 회원, 검색어 2개, 기간, 감정, 개수 제한
+        assertUsesIndex("idx_diary_keyword_member_term", SqlCapture.last(),
+                3L, "산책", "친구", Date.valueOf(START), Date.valueOf(end), "NORMAL", 20);
+    }
+
+    private void assertIndexed(String sql, Object... params) {
+        assertUsesIndex("uk_diary_member_date", sql, params);
+    }
+
+    // H2 는 인덱스 없이 전체를 읽는 테이블을 "/* PUBLIC.DIARY.tableScan */" 으로 표시
+    private void assertUsesIndex(String index, String sql, Object... params) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, params);
+
+        assertThat(plan)
+                .as("실행 계획에 전체 스캔이 있으면 안 됨: %s", plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(index);
+    }
+
+    // Hibernate 가 만든 SQL 을 기록
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static String last() {
+            assertThat(STATEMENTS).as("실행된 SQL 이 없음").isNotEmpty();
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
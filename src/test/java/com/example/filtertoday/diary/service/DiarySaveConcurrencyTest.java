@@ -0,0 +1,116 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.DiaryRequestDto;
+import com.example.filtertoday.diary.dto.DiaryResponseDto;
+import com.example.filtertoday.member.entity.Member;
+import com.example.filtertoday.member.repository.MemberRepository;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 탭에서 아직 일기가 없는 같은 날짜를 동시에 저장 -> 둘 다 성공, 일기 한 편, 그 달 통계 1건
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:diary-save-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "index.rebuild-if-empty=false"
+})
+class DiarySaveConcurrencyTest {
+
+    @Autowired
+    private DiaryService diaryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 반복마다 다른 날짜 -> 매번 일기가 없는 날의 첫 저장
+    @RepeatedTest(5)
+    void concurrentFirstSavesOfSameDayBothSucceed(RepetitionInfo repetition) throws Exception {
+        Member member = memberRepository.findByEmail("concurrent@test.com")
+                .orElseGet(() -> memberRepository.save(Member.builder()
+                        .email("concurrent@test.com")
+                        .password("pw")
+                        .nickname("동시")
+                        .build()));
+        LocalDate date = LocalDate.of(2025, 9, repetition.getCurrentRepetition());
+        long before = monthCount(member.getId(), date);
+
+        CyclicBarrier start = new CyclicBarrier(2);
+        ExecutorService tabs = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<DiaryResponseDto>> saves = tabs.invokeAll(List.of(
+                    save(start, member.getId(), date, EmotionType.JOY),
+                    save(start, member.getId(), date, EmotionType.ANGER)));
+
+            Long firstId = saves.get(0).get().getDiaryId();
+            Long secondId = saves.get(1).get().getDiaryId();
+            assertThat(firstId).isEqualTo(secondId);
+        } finally {
+            tabs.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM diary WHERE member_id = ? AND record_date = ?",
+                Integer.class, member.getId(), date)).isEqualTo(1);
+        // 마지막 저장이 무엇이든 통계는 그 달 일기 수와 같음 (이 날짜는 1건만 늘어남)
+        assertThat(monthCount(member.getId(), date)).isEqualTo(before + 1);
+        assertThat(monthCount(member.getId(), date)).isEqualTo(diaryCount(member.getId(), date));
+        // 남은 일기의 감정으로 집계됨 (덮어쓴 쪽 감정이 남지 않음)
+        String kept = jdbcTemplate.queryForObject(
+                "SELECT emotion_type FROM diary WHERE member_id = ? AND record_date = ?",
+                String.class, member.getId(), date);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(diary_count), 0) FROM emotion_monthly_stat " +
+                        "WHERE member_id = ? AND stat_year = ? AND stat_month = ? AND emotion_type = ?",
+                Long.class, member.getId(), date.getYear(), date.getMonthValue(), kept))
+                .isEqualTo(emotionCount(member.getId(), date, kept));
+    }
+
+    private Callable<DiaryResponseDto> save(CyclicBarrier start, Long memberId, LocalDate date, EmotionType emotion) {
+        return () -> {
+            DiaryRequestDto dto = new DiaryRequestDto();
+            dto.setRecordDate(date);
+            dto.setContent("동시 저장");
+            dto.setHexCode(emotion.getRepresentativeHexCode());
+            start.await();
+            return diaryService.saveDiary(memberId, dto);
+        };
+    }
+
+    private long monthCount(Long memberId, LocalDate date) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(diary_count), 0) FROM emotion_monthly_stat " +
+                        "WHERE member_id = ? AND stat_year = ? AND stat_month = ?",
+                Long.class, memberId, date.getYear(), date.getMonthValue());
+    }
+
+    private long emotionCount(Long memberId, LocalDate date, String emotionType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM diary WHERE member_id = ? AND emotion_type = ? AND record_date BETWEEN ? AND ?",
+                Long.class, memberId, emotionType, date.withDayOfMonth(1), date.withDayOfMonth(date.lengthOfMonth()));
+    }
+
+    private long diaryCount(Long memberId, LocalDate date) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM diary WHERE member_id = ? AND record_date BETWEEN ? AND ?",
+                Long.class, memberId, date.withDayOfMonth(1), date.withDayOfMonth(date.lengthOfMonth()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.filtertoday.diary.service;
+
+import com.example.filtertoday.analysis.service.EmotionStatService;
+import com.example.filtertoday.common.AnalysisStatus;
+import com.example.filtertoday.common.EmotionType;
+import com.example.filtertoday.diary.dto.DiaryImportResultDto;
+import com.example.filtertoday.diary.dto.DiaryRequestDto;
+import com.example.filtertoday.diary.dto.TransferFormat;
+import com.example.filtertoday.diary.entity.Diary;
+import com.example.filtertoday.diary.repository.DiaryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 가져오기 흐름 (DB 는 목): 500건 단위 커밋, 줄 단위 오류 건너뛰기, 파일 구조 오류 시 중단 위치/커밋 수
+class DiaryTransferServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private final DiaryService diaryService = mock(DiaryService.class);
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final PendingAnalysisSweeper sweeper = mock(PendingAnalysisSweeper.class);
+
+    private DiaryTransferService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(diaryService.toDiary(any())).thenAnswer(invocation -> {
+            DiaryRequestDto dto = invocation.getArgument(0);
+            boolean picked = dto.getHexCode() != null && !dto.getHexCode().isBlank();
+            return Diary.builder()
+                    .recordDate(dto.getRecordDate())
+                    .content(dto.getContent())
+                    .hexCode(picked ? dto.getHexCode() : "#E0E0E0")
+                    .emotionType(EmotionType.NORMAL)
+                    .analysisStatus(picked ? AnalysisStatus.COMPLETED : AnalysisStatus.PENDING)
+                    .build();
+        });
+        when(diaryRepository.findIdsByRecordDates(anyLong(), any())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        service = new DiaryTransferService(diaryService, diaryRepository, mock(KeywordIndexService.class),
+                mock(EmotionStatService.class), mock(ApplicationEventPublisher.class), mock(JdbcTemplate.class),
+                transactionTemplate, new ObjectMapper().registerModule(new JavaTimeModule()), sweeper);
+    }
+
+    @Test
+    void csvCommitsInChunksAndSkipsBadRows() throws IOException {
+        StringBuilder csv = new StringBuilder("recordDate,content,hexCode\n");
+        for (int i = 0; i < 600; i++) {
+            csv.append(START.plusDays(i)).append(",내용 ").append(i).append(',').append(i % 2 == 0 ? "#FF0000" : "").append('\n');
+        }
+        csv.append("not-a-date,x,\n");
+
+        DiaryImportResultDto result = service.importDiaries(1L, TransferFormat.CSV, stream(csv.toString()));
+
+        assertThat(result.getImported()).isEqualTo(600);
+        assertThat(result.getPendingAnalysis()).isEqualTo(300);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("602: recordDate 형식 오류: not-a-date");
+        assertThat(result.getAbortedAt()).isNull();
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(sweeper).sweep();
+    }
+
+    @Test
+    void unclosedQuoteStopsWithCommittedCountAndPosition() {
+        StringBuilder csv = new StringBuilder("recordDate,content\n");
+        for (int i = 0; i < 520; i++) {
+            csv.append(START.plusDays(i)).append(",ok\n");
+        }
+        csv.append(START.plusDays(520)).append(",\"닫히지 않음\n").append(START.plusDays(521)).append(",ok\n");
+
+        DiaryImportException e = catchThrowableOfType(DiaryImportException.class,
+                () -> service.importDiaries(1L, TransferFormat.CSV, stream(csv.toString())));
+
+        // 헤더가 1번 -> 521번째 일기는 522번째 레코드. 앞의 500건 묶음만 커밋, 뒤의 20건은 저장하지 않음
+        assertThat(e.getResult().getAbortedAt()).isEqualTo(522);
+        assertThat(e.getResult().getImported()).isEqualTo(500);
+        assertThat(e.getResult().getErrors()).containsExactly("522: 닫히지 않은 따옴표가 있습니다.");
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(sweeper, never()).sweep();
+    }
+
+    @Test
+    void missingDateColumnStopsBeforeAnyWrite() {
+        DiaryImportException e = catchThrowableOfType(DiaryImportException.class,
+                () -> service.importDiaries(1L, TransferFormat.CSV, stream("content\nx\n")));
+
+        assertThat(e.getResult().getAbortedAt()).isEqualTo(1);
+        assertThat(e.getResult().getImported()).isZero();
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    void ndjsonSkipsMalformedLines() throws IOException {
+        String ndjson = """
+                {"recordDate":"2025-01-01","content":"a","hexCode":"#FF0000"}
+                {broken
+                {"content":"no date"}
+
+                {"recordDate":"2025-01-02","content":"b"}
+                """;
+
+        DiaryImportResultDto result = service.importDiaries(1L, TransferFormat.NDJSON, stream(ndjson));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getPendingAnalysis()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("2: JSON 형식 오류", "3: recordDate 가 없습니다.");
+        verify(diaryService, never()).saveDiary(anyLong(), any());
+        verify(diaryRepository, times(1)).findIdsByRecordDates(anyLong(), anyList());
+    }
+
+    private static InputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.filtertoday.member.security;
+
+import com.example.filtertoday.FiltertodayApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// auth.mode=token 으로 서버 두 대(같은 내장 DB)를 띄워서
+// A 에서 로그인한 쿠키로 B 가 세션 없이 인증하는지, 재발급 토큰 교체/재사용 감지/로그아웃이 서버를 넘어 반영되는지 확인
+// A 는 기본 재사용 grace(30s), B 는 0s (grace 가 지난 재사용 = 탈취 의심 경로 확인용)
+// 서버마다 있는 캐시(분석 응답, 색 색인)가 다른 서버에서 저장한 일기를 바로 반영하는지도 확인
+class TokenAuthMultiNodeTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:multi-node;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String EMAIL = "multi@test.com";
+    private static final String PASSWORD = "pw1234";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static final HttpClient http = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("create-drop");
+        nodeB = start("none", "--auth.token.refresh-reuse-grace=0s"); // 스키마는 A 가 생성
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) nodeB.close();
+        if (nodeA != null) nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto, String... extra) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + DB_URL,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--index.rebuild-if-empty=false",
+                "--auth.mode=token",
+                "--auth.token.secret=multi-node-test-secret-0123456789abcdef"));
+        args.addAll(List.of(extra));
+        return new SpringApplicationBuilder(FiltertodayApplication.class).run(args.toArray(String[]::new));
+    }
+
+    @Test
+    void tokenIssuedByOneNodeWorksOnAnother() throws Exception {
+        post(nodeA, "/signup-process", form(Map.of("email", EMAIL, "password", PASSWORD, "nickname", "멀티")), Map.of());
+
+        // A 에서 로그인 -> 세션 없이 토큰 쿠키만
+        HttpResponse<String> login = post(nodeA, "/login-process", form(Map.of("email", EMAIL, "password", PASSWORD)), Map.of());
+        assertThat(login.statusCode()).isEqualTo(302);
+        Map<String, String> cookies = cookies(login);
+        assertThat(cookies).containsKeys("FT_ACCESS", "FT_REFRESH").doesNotContainKey("JSESSIONID");
+
+        // B 는 접근 토큰만으로 인증 (일기 없음 -> 204)
+        assertThat(getDiary(nodeB, Map.of("FT_ACCESS", cookies.get("FT_ACCESS"))).statusCode()).isEqualTo(204);
+
+        // B 에서 재발급 -> 새 재발급 토큰
+        HttpResponse<String> refreshed = refresh(nodeB, cookies.get("FT_REFRESH"));
+        assertThat(refreshed.statusCode()).isEqualTo(200);
+        String rotated = cookies(refreshed).get("FT_REFRESH");
+        assertThat(rotated).isNotBlank().isNotEqualTo(cookies.get("FT_REFRESH"));
+
+        // grace 가 없는 B 에서 이전 재발급 토큰 재사용 -> 거부 + 그 회원의 재발급 토큰 전부 폐기
+        assertThat(refresh(nodeB, cookies.get("FT_REFRESH")).statusCode()).isEqualTo(401);
+        assertThat(refresh(nodeA, rotated).statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void reuseRightAfterRotationGetsAccessTokenOnly() throws Exception {
+        Map<String, String> cookies = signupAndLogin("grace@test.com");
+        String rotated = cookies(refresh(nodeB, cookies.get("FT_REFRESH"))).get("FT_REFRESH");
+
+        // 동시에 보낸 다른 탭: A 의 grace 안 -> 접근 토큰만, 재발급 토큰은 그대로
+        HttpResponse<String> concurrent = refresh(nodeA, cookies.get("FT_REFRESH"));
+        assertThat(concurrent.statusCode()).isEqualTo(200);
+        assertThat(cookies(concurrent)).containsKey("FT_ACCESS").doesNotContainKey("FT_REFRESH");
+        assertThat(refresh(nodeA, rotated).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void logoutOnOneNodeRevokesRefreshOnAnother() throws Exception {
+        Map<String, String> cookies = signupAndLogin("logout@test.com");
+
+        HttpResponse<String> logout = send(nodeA, HttpRequest.newBuilder(uri(nodeA, "/logout")).GET(), cookies);
+        assertThat(logout.statusCode()).isEqualTo(302);
+
+        // 로그아웃으로 폐기된 토큰은 grace 와 관계없이 거부
+        assertThat(refresh(nodeA, cookies.get("FT_REFRESH")).statusCode()).isEqualTo(401);
+        assertThat(refresh(nodeB, cookies.get("FT_REFRESH")).statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void revokeAllClosesReuseGrace() throws Exception {
+        Map<String, String> cookies = signupAndLogin("revoke@test.com");
+        HttpResponse<String> refreshed = refresh(nodeA, cookies.get("FT_REFRESH"));
+        Map<String, String> current = cookies(refreshed);
+
+        HttpResponse<String> revoked = send(nodeB, HttpRequest.newBuilder(uri(nodeB, "/api/auth/revoke-all"))
+                .POST(HttpRequest.BodyPublishers.noBody()), Map.of("FT_ACCESS", current.get("FT_ACCESS")));
+        assertThat(revoked.statusCode()).isEqualTo(204);
+
+        // 교체 직후(grace 안)라도 교체된 새 토큰까지 폐기됐으면 거부
+        assertThat(refresh(nodeA, cookies.get("FT_REFRESH")).statusCode()).isEqualTo(401);
+        assertThat(refresh(nodeA, current.get("FT_REFRESH")).statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void tamperedAccessTokenIsRejected() throws Exception {
+        String access = signupAndLogin("tamper@test.com").get("FT_ACCESS");
+
+        // 서명 첫 글자 변경 (마지막 글자는 base64 남는 비트라 바꿔도 같은 값일 수 있음)
+        int signature = access.lastIndexOf('.') + 1;
+        char replaced = access.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = access.substring(0, signature) + replaced + access.substring(signature + 1);
+        assertThat(getDiary(nodeB, Map.of("FT_ACCESS", tampered)).statusCode()).isEqualTo(401);
+
+        HttpResponse<String> bearer = send(nodeB, HttpRequest.newBuilder(uri(nodeB, "/api/diary?recordDate=2025-01-01"))
+                .header("Authorization", "Bearer " + tampered).GET(), Map.of());
+        assertThat(bearer.statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void saveOnOneNodeIsVisibleOnAnother() throws Exception {
+        Map<String, String> access = Map.of("FT_ACCESS", signupAndLogin("cache@test.com").get("FT_ACCESS"));
+        String stats = "/api/analysis/stats?year=2025&month=3";
+
+        assertThat(saveDiary(nodeA, access, "2025-03-01", "#FFD700").statusCode()).isEqualTo(200);
+        HttpResponse<String> before = send(nodeB, HttpRequest.newBuilder(uri(nodeB, stats)).GET(), access);
+        assertThat(before.statusCode()).isEqualTo(200);
+        assertThat(before.body()).contains("JOY").doesNotContain("ANGER");
+        String etag = before.headers().firstValue("ETag").orElseThrow();
+        // B 의 색 색인도 이 시점에 만들어 둠
+        assertThat(similar(nodeB, access).body()).contains("2025-03-01").doesNotContain("2025-03-02");
+
+        // A 에만 저장 -> B 는 이벤트를 받지 못해도 DB 버전으로 새 응답
+        assertThat(saveDiary(nodeA, access, "2025-03-02", "#FF4500").statusCode()).isEqualTo(200);
+        HttpResponse<String> after = send(nodeB, HttpRequest.newBuilder(uri(nodeB, stats))
+                .header("If-None-Match", etag).GET(), access);
+        assertThat(after.statusCode()).isEqualTo(200);
+        assertThat(after.body()).contains("ANGER");
+        assertThat(after.headers().firstValue("ETag")).isPresent().get().isNotEqualTo(etag);
+        assertThat(similar(nodeB, access).body()).contains("2025-03-02");
+    }
+
+    @Test
+    void prometheusRequiresAdminOnPublicPort() throws Exception {
+        Map<String, String> access = Map.of("FT_ACCESS", signupAndLogin("metrics@test.com").get("FT_ACCESS"));
+
+        HttpResponse<String> anonymous = send(nodeA, HttpRequest.newBuilder(uri(nodeA, "/actuator/prometheus")).GET(), Map.of());
+        assertThat(anonymous.statusCode()).isNotEqualTo(200);
+        HttpResponse<String> user = send(nodeA, HttpRequest.newBuilder(uri(nodeA, "/actuator/prometheus")).GET(), access);
+        assertThat(user.statusCode()).isEqualTo(403);
+        // 헬스 체크는 그대로 공개
+        assertThat(send(nodeA, HttpRequest.newBuilder(uri(nodeA, "/actuator/health")).GET(), Map.of()).statusCode())
+                .isEqualTo(200);
+    }
+
+    private static Map<String, String> signupAndLogin(String email) throws IOException, InterruptedException {
+        post(nodeA, "/signup-process", form(Map.of("email", email, "password", PASSWORD, "nickname", "회원")), Map.of());
+        return cookies(post(nodeA, "/login-process", form(Map.of("email", email, "password", PASSWORD)), Map.of()));
+    }
+
+    private static HttpResponse<String> refresh(ConfigurableApplicationContext node, String refreshToken)
+            throws IOException, InterruptedException {
+        return post(node, "/api/auth/refresh", "", Map.of("FT_REFRESH", refreshToken));
+    }
+
+    private static HttpResponse<String> getDiary(ConfigurableApplicationContext node, Map<String, String> cookies)
+            throws IOException, InterruptedException {
+        return send(node, HttpRequest.newBuilder(uri(node, "/api/diary?recordDate=2025-01-01")).GET(), cookies);
+    }
+
+    private static HttpResponse<String> saveDiary(ConfigurableApplicationContext node, Map<String, String> cookies,
+                                                  String recordDate, String hexCode)
+            throws IOException, InterruptedException {
+        String body = "{\"recordDate\":\"" + recordDate + "\",\"content\":\"산책\",\"hexCode\":\"" + hexCode + "\"}";
+        return send(node, HttpRequest.newBuilder(uri(node, "/api/diary"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)), cookies);
+    }
+
+    private static HttpResponse<String> similar(ConfigurableApplicationContext node, Map<String, String> cookies)
+            throws IOException, InterruptedException {
+        return send(node, HttpRequest.newBuilder(uri(node, "/api/diary/similar?color=%23FF4500&k=10")).GET(), cookies);
+    }
+
+    private static HttpResponse<String> post(ConfigurableApplicationContext node, String path, String form,
+                                             Map<String, String> cookies) throws IOException, InterruptedException {
+        return send(node, HttpRequest.newBuilder(uri(node, path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)), cookies);
+    }
+
+    private static HttpResponse<String> send(ConfigurableApplicationContext node, HttpRequest.Builder request,
+                                             Map<String, String> cookies) throws IOException, InterruptedException {
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(ConfigurableApplicationContext node, String path) {
+        String port = node.getEnvironment().getProperty("local.server.port");
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String form(Map<String, String> fields) {
+        return fields.entrySet().stream()
+                .map(field -> field.getKey() + "=" + URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    // Set-Cookie 중 값이 있는 쿠키만 (삭제용 빈 쿠키 제외)
+    private static Map<String, String> cookies(HttpResponse<?> response) {
+        Map<String, String> cookies = new HashMap<>();
+        List<String> headers = response.headers().allValues("Set-Cookie");
+        for (String header : headers) {
+            String pair = header.split(";", 2)[0];
+            int eq = pair.indexOf('=');
+            String value = pair.substring(eq + 1);
+            if (!value.isEmpty()) cookies.put(pair.substring(0, eq), value);
+        }
+        return cookies;
+    }
+}